@@ -0,0 +1,15 @@
+package com.followjobs.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for long-running maintenance jobs.
+ * The job executor itself is owned by {@link com.followjobs.service.BackgroundJobService}
+ * rather than published as a bean: an Executor bean would replace Spring Boot's
+ * applicationTaskExecutor (MVC async, @Async) with the small job pool.
+ */
+@Configuration
+@EnableConfigurationProperties(BackgroundJobProperties.class)
+public class BackgroundJobConfig {
+}
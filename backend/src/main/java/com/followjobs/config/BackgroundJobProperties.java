@@ -0,0 +1,29 @@
+package com.followjobs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the background job executor (prefix followjobs.jobs).
+ */
+@Data
+@ConfigurationProperties(prefix = "followjobs.jobs")
+public class BackgroundJobProperties {
+
+    /** Worker threads running jobs in parallel */
+    private int poolSize = 2;
+
+    /** Jobs allowed to wait for a free worker before submissions are rejected */
+    private int queueCapacity = 20;
+
+    /** Rows handled per chunk (and per transaction) */
+    private int chunkSize = 500;
+
+    /** Finished jobs kept in memory per tenant for status polling */
+    private int retainedJobs = 100;
+
+    /** How long finished jobs stay available for polling */
+    private Duration retention = Duration.ofHours(1);
+}
@@ -0,0 +1,21 @@
+package com.followjobs.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Web server for the reactive profile.
+ * Tomcat is also on the classpath for the MVC stack and would otherwise be
+ * picked first; Netty gives WebFlux a fully non-blocking event loop.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,146 @@
+package com.followjobs.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.entity.ApplicationStatus;
+import com.followjobs.entity.JobApplication;
+import com.followjobs.repository.JobApplicationRepository;
+import com.followjobs.service.JobApplicationService;
+import com.followjobs.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Warms up the application before it reports ready.
+ * Runners execute before the readiness state switches to ACCEPTING_TRAFFIC,
+ * so the first real requests don't pay for cold index pages, query
+ * compilation, prepared statements and Jackson/validator metadata.
+ *
+ * Index pages are loaded for the largest tenants, which receive most of the
+ * traffic; the query shapes are the same for every tenant, so the remaining
+ * lookups are compiled once as the default tenant. Only index-backed
+ * queries are used, so the cost grows with the index size rather than with
+ * full table scans. Nothing is written to the database.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "followjobs.warmup.enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmupProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    /** Value that matches no row, so lookups only touch the index */
+    private static final String NO_MATCH = "__warmup__";
+
+    private final JobApplicationService service;
+    private final JobApplicationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final WarmupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+
+        // No tenant is bound yet, so these two span all tenants
+        long total = repository.count();
+        List<String> tenants = repository.findLargestTenants(PageRequest.of(0, properties.getTenants()));
+
+        List<JobApplicationDTO> newest = List.of();
+        for (String tenantId : tenants) {
+            newest = runAs(tenantId, () -> warmUpTenant(tenantId));
+        }
+        runAs(TenantContext.DEFAULT_TENANT, () -> {
+            warmUpLookups();
+            return null;
+        });
+
+        // Build the Jackson serializers/deserializers and validation metadata used by the API
+        byte[] json = objectMapper.writeValueAsBytes(newest);
+        objectMapper.readValue(json, JobApplicationDTO[].class);
+        validator.validate(sampleDTO());
+
+        log.info("Warm-up finished in {} ms ({} applications, {} tenants warmed)",
+                (System.nanoTime() - start) / 1_000_000, total, tenants.size());
+    }
+
+    /** Loads the tenant's index pages into the H2 cache; returns its newest applications */
+    private List<JobApplicationDTO> warmUpTenant(String tenantId) {
+        repository.countByPortalGrouped(tenantId);
+        repository.countByStatusGrouped(tenantId);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            repository.countByStatus(tenantId, status);
+        }
+        return repository
+                .findByTenantIdOrderByApplicationDateDesc(tenantId, PageRequest.of(0, 20))
+                .stream()
+                .map(entity -> service.findById(entity.getId()).orElseThrow())
+                .toList();
+    }
+
+    /** Compiles the remaining lookup paths once (HQL parsing, SQL generation, prepared statements) */
+    private void warmUpLookups() {
+        service.findById(-1L);
+        service.findByPortal(NO_MATCH);
+        warmUpInsert();
+    }
+
+    /**
+     * Prepares Hibernate's insert statement without executing it. A rolled-back
+     * insert would still use up an IDENTITY value and leave a gap in the IDs.
+     */
+    private void warmUpInsert() {
+        AbstractEntityPersister persister = (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(JobApplication.class);
+        String insertSql = ((PreparableMutationOperation) persister.getInsertCoordinator()
+                .getStaticInsertGroup()
+                .getSingleOperation())
+                .getSqlString();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.unwrap(Session.class).doWork(connection -> {
+            connection.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS).close();
+            log.debug("Prepared insert: {}", insertSql);
+        }));
+    }
+
+    private <T> T runAs(String tenantId, Supplier<T> work) {
+        TenantContext.set(tenantId);
+        try {
+            return work.get();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private JobApplicationDTO sampleDTO() {
+        return JobApplicationDTO.builder()
+                .company(NO_MATCH)
+                .position(NO_MATCH)
+                .portal(NO_MATCH)
+                .status(ApplicationStatus.SENT)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.followjobs.config;
+
+import com.followjobs.tenant.TenantAwareJpaTransactionManager;
+import com.followjobs.tenant.TenantInterceptor;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Multi-tenancy wiring for the servlet stack: the X-Tenant-ID interceptor
+ * and a transaction manager that enables the Hibernate tenant filter.
+ * The reactive profile uses {@link com.followjobs.tenant.TenantWebFilter} instead.
+ */
+@Configuration
+@Profile("!reactive")
+public class TenancyConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TenantInterceptor()).addPathPatterns("/api/**");
+    }
+
+    /** Replaces Spring Boot's default JPA transaction manager */
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> customizers) {
+
+        JpaTransactionManager transactionManager = new TenantAwareJpaTransactionManager(entityManagerFactory);
+        // The PlatformTransactionManager overload is deprecated for removal
+        customizers.ifAvailable(customizer -> customizer.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,18 @@
+package com.followjobs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the startup warm-up (prefix followjobs.warmup).
+ */
+@Data
+@ConfigurationProperties(prefix = "followjobs.warmup")
+public class WarmupProperties {
+
+    /** Run the warm-up before the application reports ready */
+    private boolean enabled;
+
+    /** Largest tenants (by row count) whose index ranges are read into the cache */
+    private int tenants = 10;
+}
@@ -0,0 +1,75 @@
+package com.followjobs.controller;
+
+import com.followjobs.dto.JobStatusDTO;
+import com.followjobs.service.BackgroundJobService;
+import com.followjobs.tenant.TenantContext;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for background jobs.
+ * Exposes progress polling and cancellation for long-running operations.
+ * Shared by both web stacks, so the tenant is read from the header directly.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Background Jobs", description = "API for tracking long-running operations")
+@CrossOrigin(origins = "*")
+public class BackgroundJobController {
+
+    private final BackgroundJobService service;
+
+    @GetMapping
+    @Operation(summary = "Get all jobs", description = "Returns retained jobs, newest first")
+    public ResponseEntity<List<JobStatusDTO>> getAll(
+            @RequestHeader(name = TenantContext.HEADER, required = false) String tenant) {
+
+        log.info("GET /api/jobs");
+        return ResponseEntity.ok(service.findAll(TenantContext.resolve(tenant)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get job status", description = "Returns state, rows processed, rows/sec and ETA")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<JobStatusDTO> getById(
+            @Parameter(description = "Job ID") @PathVariable Long id,
+            @RequestHeader(name = TenantContext.HEADER, required = false) String tenant) {
+
+        log.info("GET /api/jobs/{}", id);
+
+        return service.findById(TenantContext.resolve(tenant), id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancel job", description = "A running job stops after the chunk in progress")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Cancellation requested"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<JobStatusDTO> cancel(
+            @PathVariable Long id,
+            @RequestHeader(name = TenantContext.HEADER, required = false) String tenant) {
+
+        log.info("POST /api/jobs/{}/cancel", id);
+
+        return service.cancel(TenantContext.resolve(tenant), id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
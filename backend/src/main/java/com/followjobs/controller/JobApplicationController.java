@@ -1,6 +1,7 @@
 package com.followjobs.controller;
 
 import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.dto.JobStatusDTO;
 import com.followjobs.dto.UpdateStatusDTO;
 import com.followjobs.entity.ApplicationStatus;
 import com.followjobs.service.JobApplicationService;
@@ -12,17 +13,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 /**
  * REST controller for job applications.
  * Handles HTTP requests and delegates to the service layer.
+ * Replaced by {@link ReactiveJobApplicationController} in the reactive profile.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/applications")
 @RequiredArgsConstructor
 @Slf4j
@@ -162,10 +167,17 @@ public class JobApplicationController {
     // ---------- Special Operations ----------
 
     @PostMapping("/clean")
-    @Operation(summary = "Clean invalid data", description = "Removes applications with empty or invalid company/position")
-    public ResponseEntity<String> cleanInvalidApplications() {
+    @Operation(summary = "Clean invalid data", description = "Starts a background job that removes applications with empty or invalid company/position, or returns the one already in progress. Poll /api/jobs/{id} for progress")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Cleanup job accepted or already in progress"),
+            @ApiResponse(responseCode = "503", description = "Job queue full; retry after the Retry-After delay")
+    })
+    public ResponseEntity<JobStatusDTO> cleanInvalidApplications() {
         log.info("POST /api/applications/clean");
-        int deleted = service.cleanInvalidApplications();
-        return ResponseEntity.ok("Applications deleted: " + deleted);
+        JobStatusDTO job = service.startInvalidApplicationsCleanup();
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
     }
 }
@@ -0,0 +1,130 @@
+package com.followjobs.controller;
+
+import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.dto.JobStatusDTO;
+import com.followjobs.dto.UpdateStatusDTO;
+import com.followjobs.entity.ApplicationStatus;
+import com.followjobs.service.ReactiveJobApplicationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Reactive REST controller for job applications (reactive profile).
+ * Same endpoints and DTOs as {@link JobApplicationController}, served by WebFlux.
+ * List endpoints stream rows as they are read; send Accept: application/x-ndjson
+ * to receive one JSON document per line instead of a single array.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ReactiveJobApplicationController {
+
+    private final ReactiveJobApplicationService service;
+
+    // ---------- GET Endpoints ----------
+
+    @GetMapping
+    public Flux<JobApplicationDTO> getAll() {
+        log.info("GET /api/applications");
+        return service.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<JobApplicationDTO>> getById(@PathVariable Long id) {
+        log.info("GET /api/applications/{}", id);
+
+        return service.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/portal/{portal}")
+    public Flux<JobApplicationDTO> getByPortal(@PathVariable String portal) {
+        log.info("GET /api/applications/portal/{}", portal);
+        return service.findByPortal(portal);
+    }
+
+    @GetMapping("/status/{status}")
+    public Flux<JobApplicationDTO> getByStatus(@PathVariable ApplicationStatus status) {
+        log.info("GET /api/applications/status/{}", status);
+        return service.findByStatus(status);
+    }
+
+    @GetMapping("/search")
+    public Flux<JobApplicationDTO> searchByCompany(@RequestParam String company) {
+        log.info("GET /api/applications/search?company={}", company);
+        return service.searchByCompany(company);
+    }
+
+    // ---------- POST Endpoints ----------
+
+    @PostMapping
+    public Mono<ResponseEntity<JobApplicationDTO>> create(@Valid @RequestBody JobApplicationDTO dto) {
+        log.info("POST /api/applications - Creating: {} at {}", dto.getPosition(), dto.getCompany());
+
+        return service.create(dto)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    // ---------- PUT/PATCH Endpoints ----------
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<JobApplicationDTO>> update(
+            @PathVariable Long id,
+            @Valid @RequestBody JobApplicationDTO dto) {
+
+        log.info("PUT /api/applications/{}", id);
+
+        return service.update(id, dto)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping("/{id}/status")
+    public Mono<ResponseEntity<JobApplicationDTO>> updateStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateStatusDTO dto) {
+
+        log.info("PATCH /api/applications/{}/status - New status: {}", id, dto.getStatus());
+
+        return service.updateStatus(id, dto)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // ---------- DELETE Endpoints ----------
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        log.info("DELETE /api/applications/{}", id);
+
+        return service.delete(id)
+                .map(deleted -> deleted
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    // ---------- Special Operations ----------
+
+    @PostMapping("/clean")
+    public Mono<ResponseEntity<JobStatusDTO>> cleanInvalidApplications() {
+        log.info("POST /api/applications/clean");
+
+        return service.startInvalidApplicationsCleanup()
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/api/jobs/" + job.getId()))
+                        .body(job));
+    }
+}
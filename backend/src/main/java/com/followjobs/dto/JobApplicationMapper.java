@@ -0,0 +1,47 @@
+package com.followjobs.dto;
+
+import com.followjobs.entity.JobApplication;
+import com.followjobs.entity.ReactiveJobApplication;
+
+/**
+ * Entity to DTO mapping shared by the servlet and reactive services.
+ * It runs once per returned row, so it calls the DTO's all-args constructor
+ * rather than building each row through a throwaway builder.
+ */
+public final class JobApplicationMapper {
+
+    private JobApplicationMapper() {
+    }
+
+    public static JobApplicationDTO toDTO(JobApplication entity) {
+        return new JobApplicationDTO(
+                entity.getId(),
+                entity.getApplicationDate(),
+                entity.getCompany(),
+                entity.getPosition(),
+                entity.getEmploymentType(),
+                entity.getPortal(),
+                entity.getStatus(),
+                entity.getResponseDate(),
+                entity.getJobUrl(),
+                entity.getNotes(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    public static JobApplicationDTO toDTO(ReactiveJobApplication entity) {
+        return new JobApplicationDTO(
+                entity.getId(),
+                entity.getApplicationDate(),
+                entity.getCompany(),
+                entity.getPosition(),
+                entity.getEmploymentType(),
+                entity.getPortal(),
+                entity.getStatus(),
+                entity.getResponseDate(),
+                entity.getJobUrl(),
+                entity.getNotes(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+}
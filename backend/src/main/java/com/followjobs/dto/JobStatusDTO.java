@@ -0,0 +1,43 @@
+package com.followjobs.dto;
+
+import com.followjobs.job.JobState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO exposing the progress of a background job for status polling.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusDTO {
+
+    private Long id;
+
+    private String type;
+
+    private JobState state;
+
+    /** Estimated rows to process, null while unknown */
+    private Long totalRows;
+
+    private long processedRows;
+
+    private double rowsPerSecond;
+
+    /** Estimated seconds until completion, null when it cannot be estimated */
+    private Long etaSeconds;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
@@ -2,24 +2,43 @@ package com.followjobs.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+
 import java.time.LocalDateTime;
 
 /**
  * Entity representing a job application.
  * Maps to the job_applications table in the database.
+ * Every row belongs to a tenant; the tenant filter is enabled automatically
+ * by {@link com.followjobs.tenant.TenantAwareJpaTransactionManager}.
  */
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", uniqueConstraints = @UniqueConstraint(
+        name = "uk_job_applications_tenant_gmail_message_id",
+        columnNames = { "tenant_id", "gmail_message_id" }))
+@FilterDef(name = JobApplication.TENANT_FILTER,
+        parameters = @ParamDef(name = JobApplication.TENANT_PARAMETER, type = String.class),
+        defaultCondition = "tenant_id = :" + JobApplication.TENANT_PARAMETER)
+@Filter(name = JobApplication.TENANT_FILTER)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobApplication {
 
+    public static final String TENANT_FILTER = "tenantFilter";
+    public static final String TENANT_PARAMETER = "tenantId";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** Owner of the row (X-Tenant-ID header of the request that created it) */
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @Column(name = "application_date", nullable = false)
     private LocalDateTime applicationDate;
 
@@ -51,8 +70,8 @@ public class JobApplication {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
-    /** Gmail message ID to prevent duplicate processing */
-    @Column(name = "gmail_message_id", unique = true, length = 100)
+    /** Gmail message ID to prevent duplicate processing (unique per tenant) */
+    @Column(name = "gmail_message_id", length = 100)
     private String gmailMessageId;
 
     @Column(name = "created_at", nullable = false, updatable = false)
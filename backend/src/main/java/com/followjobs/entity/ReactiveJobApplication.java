@@ -0,0 +1,62 @@
+package com.followjobs.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the job_applications table for the reactive profile.
+ * Mirrors {@link JobApplication}; the schema itself is owned by Flyway.
+ */
+@Table("job_applications")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactiveJobApplication {
+
+    @Id
+    private Long id;
+
+    @Column("tenant_id")
+    private String tenantId;
+
+    @Column("application_date")
+    private LocalDateTime applicationDate;
+
+    @Column("company")
+    private String company;
+
+    @Column("position")
+    private String position;
+
+    @Column("employment_type")
+    private String employmentType;
+
+    @Column("portal")
+    private String portal;
+
+    @Column("status")
+    private ApplicationStatus status;
+
+    @Column("response_date")
+    private LocalDateTime responseDate;
+
+    @Column("job_url")
+    private String jobUrl;
+
+    @Column("notes")
+    private String notes;
+
+    @Column("gmail_message_id")
+    private String gmailMessageId;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.followjobs.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Body of every error returned by {@link GlobalExceptionHandler}.
+ *
+ * Timestamps have second resolution and are created once per second, and
+ * bodies without request-specific content are shared within that second,
+ * so a burst of identical errors allocates no new bodies.
+ * Written by {@link com.followjobs.json.ErrorResponseSerializer}.
+ *
+ * @param errors field errors of a validation failure, null otherwise (omitted from the JSON)
+ */
+public record ErrorResponse(
+        LocalDateTime timestamp,
+        int status,
+        String error,
+        String message,
+        Map<String, String> errors) {
+
+    private static final String INTERNAL_ERROR_MESSAGE = "An internal error occurred. Please try again later.";
+
+    /** The current second with the constant bodies stamped with it, replaced as a whole */
+    private record Second(long epochSecond, LocalDateTime timestamp, ErrorResponse internalError) {
+
+        static Second of(long epochSecond) {
+            LocalDateTime timestamp = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            return new Second(epochSecond, timestamp, new ErrorResponse(timestamp,
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", INTERNAL_ERROR_MESSAGE, null));
+        }
+    }
+
+    private static volatile Second current = Second.of(System.currentTimeMillis() / 1000);
+
+    public static ErrorResponse of(HttpStatus status, String error, String message) {
+        return new ErrorResponse(currentSecond().timestamp(), status.value(), error, message, null);
+    }
+
+    public static ErrorResponse validation(Map<String, String> errors) {
+        return new ErrorResponse(currentSecond().timestamp(), HttpStatus.BAD_REQUEST.value(), "Validation Error",
+                "Invalid data provided", errors);
+    }
+
+    /** The generic 500 body; the same instance is returned within a second */
+    public static ErrorResponse internalError() {
+        return currentSecond().internalError();
+    }
+
+    private static Second currentSecond() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        Second second = current;
+        if (second.epochSecond() != epochSecond) {
+            second = Second.of(epochSecond);
+            current = second;
+        }
+        return second;
+    }
+}
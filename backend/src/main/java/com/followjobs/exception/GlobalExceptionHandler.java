@@ -1,48 +1,62 @@
 package com.followjobs.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Global exception handler for the API.
- * Provides consistent error responses across all controllers.
+ * Provides consistent error responses ({@link ErrorResponse}) across all controllers.
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    /** Seconds a client should wait before resubmitting a rejected job */
+    private static final String JOB_RETRY_AFTER_SECONDS = "30";
+
     /**
      * Handles validation errors from @Valid annotations.
      * Returns a 400 Bad Request with details about invalid fields.
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationErrors(
+    public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex) {
 
         log.warn("Validation error: {}", ex.getMessage());
+        return validationErrorResponse(ex.getBindingResult());
+    }
 
-        Map<String, String> fieldErrors = new HashMap<>();
-        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+    /**
+     * Same as {@link #handleValidationErrors} for the reactive (WebFlux) stack.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleReactiveValidationErrors(
+            WebExchangeBindException ex) {
+
+        log.warn("Validation error: {}", ex.getMessage());
+        return validationErrorResponse(ex.getBindingResult());
+    }
+
+    private ResponseEntity<ErrorResponse> validationErrorResponse(BindingResult bindingResult) {
+        List<FieldError> errors = bindingResult.getFieldErrors();
+        Map<String, String> fieldErrors = new HashMap<>(errors.size() * 2);
+        for (FieldError error : errors) {
             fieldErrors.put(error.getField(), error.getDefaultMessage());
         }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("error", "Validation Error");
-        response.put("message", "Invalid data provided");
-        response.put("errors", fieldErrors);
-
-        return ResponseEntity.badRequest().body(response);
+        return ResponseEntity.badRequest().body(ErrorResponse.validation(fieldErrors));
     }
 
     /**
@@ -50,28 +64,30 @@ public class GlobalExceptionHandler {
      * Never exposes stack traces to clients for security.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Unexpected error: ", ex);
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        response.put("error", "Internal Server Error");
-        response.put("message", "An internal error occurred. Please try again later.");
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ErrorResponse.internalError());
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleNotFound(ResourceNotFoundException ex) {
+    public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
         log.warn("Resource not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ErrorResponse.of(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage()));
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.NOT_FOUND.value());
-        response.put("error", "Not Found");
-        response.put("message", ex.getMessage());
+    @ExceptionHandler(JobRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleJobRejected(JobRejectedException ex) {
+        log.warn("Job rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, JOB_RETRY_AFTER_SECONDS)
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage()));
+    }
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    @ExceptionHandler(InvalidTenantException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTenant(InvalidTenantException ex) {
+        log.warn("Invalid tenant: {}", ex.getMessage());
+        return ResponseEntity.badRequest()
+                .body(ErrorResponse.of(HttpStatus.BAD_REQUEST, "Invalid Tenant", ex.getMessage()));
     }
 }
@@ -0,0 +1,11 @@
+package com.followjobs.exception;
+
+/**
+ * Exception thrown when the X-Tenant-ID header is not a valid tenant ID.
+ */
+public class InvalidTenantException extends RuntimeException {
+
+    public InvalidTenantException(String tenantId) {
+        super(String.format("Invalid tenant ID '%s': use 1-64 letters, digits, '.', '_' or '-'", tenantId));
+    }
+}
@@ -0,0 +1,12 @@
+package com.followjobs.exception;
+
+/**
+ * Thrown when a background job cannot be queued because the executor is saturated.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+public class JobRejectedException extends RuntimeException {
+
+    public JobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,100 @@
+package com.followjobs.job;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory state of a background job.
+ * Written by the worker thread and read concurrently by status requests.
+ */
+@Getter
+public class BackgroundJob {
+
+    private final Long id;
+    private final String tenantId;
+    private final String type;
+    @Getter(AccessLevel.NONE)
+    private final Clock clock;
+    private final LocalDateTime createdAt;
+    private final AtomicLong processedRows = new AtomicLong();
+
+    private volatile JobState state = JobState.QUEUED;
+    private volatile long totalRows = -1;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+
+    public BackgroundJob(Long id, String tenantId, String type, Clock clock) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.type = type;
+        this.clock = clock;
+        this.createdAt = LocalDateTime.now(clock);
+    }
+
+    public void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    public synchronized boolean start() {
+        if (state != JobState.QUEUED) {
+            return false;
+        }
+        state = JobState.RUNNING;
+        startedAt = LocalDateTime.now(clock);
+        startedNanos = System.nanoTime();
+        return true;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void addProcessed(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    /** Requests cancellation; a running job stops after its current chunk */
+    public synchronized void requestCancel() {
+        cancelRequested = true;
+        if (state == JobState.QUEUED) {
+            finish(JobState.CANCELLED, null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Records the outcome. The state is written last: readers that see a
+     * finished state (retention eviction, status requests) also see its
+     * finish time and error.
+     */
+    public synchronized void finish(JobState finalState, String error) {
+        if (state.isFinished()) {
+            return;
+        }
+        this.error = error;
+        this.finishedAt = LocalDateTime.now(clock);
+        this.finishedNanos = System.nanoTime();
+        this.state = finalState;
+    }
+
+    /** Seconds spent running so far, or in total once finished */
+    public double elapsedSeconds() {
+        if (startedNanos == 0) {
+            return 0.0;
+        }
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return (end - startedNanos) / 1_000_000_000.0;
+    }
+}
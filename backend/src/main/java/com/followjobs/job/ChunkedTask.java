@@ -0,0 +1,23 @@
+package com.followjobs.job;
+
+/**
+ * Unit of work executed by the background job runner in bounded chunks.
+ * Each chunk should run in its own short transaction, so a large operation
+ * never holds locks for its whole duration and can be cancelled between chunks.
+ */
+public interface ChunkedTask {
+
+    /** Returned by {@link #processChunk} when there is nothing left to do */
+    int DONE = -1;
+
+    /** Estimated number of rows the task will process, or -1 if unknown */
+    long estimateTotal();
+
+    /**
+     * Processes the next chunk of at most {@code chunkSize} rows.
+     *
+     * @return rows processed (possibly 0 if the chunk's rows changed concurrently),
+     *         or {@link #DONE} when there is nothing left to do
+     */
+    int processChunk(int chunkSize);
+}
@@ -0,0 +1,18 @@
+package com.followjobs.job;
+
+/**
+ * Lifecycle states of a background job.
+ */
+public enum JobState {
+
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    /** True once the job will not make any more progress */
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+}
@@ -0,0 +1,56 @@
+package com.followjobs.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.followjobs.exception.ErrorResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes {@link ErrorResponse} bodies straight into the generator's buffer
+ * with pre-encoded field names. The field errors of validation failures are
+ * only present when there are any.
+ */
+@JsonComponent
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString ERRORS = new SerializedString("errors");
+
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+
+        gen.writeFieldName(TIMESTAMP);
+        IsoDateTimes.write(gen, response.timestamp());
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(response.status());
+        gen.writeFieldName(ERROR);
+        gen.writeString(response.error());
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(response.message());
+
+        if (response.errors() != null) {
+            gen.writeFieldName(ERRORS);
+            gen.writeStartObject();
+            for (Map.Entry<String, String> error : response.errors().entrySet()) {
+                gen.writeFieldName(error.getKey());
+                gen.writeString(error.getValue());
+            }
+            gen.writeEndObject();
+        }
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,68 @@
+package com.followjobs.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes LocalDateTime values exactly as Jackson's default JavaTimeModule
+ * serializer does (ISO_LOCAL_DATE_TIME: seconds always present, fraction
+ * without trailing zeros), but into a reused per-thread buffer instead of
+ * formatting a new String for every value.
+ */
+final class IsoDateTimes {
+
+    /** "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn" */
+    private static final int MAX_LENGTH = 29;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private IsoDateTimes() {
+    }
+
+    static void write(JsonGenerator gen, LocalDateTime value) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed and expanded years are rare enough to take the formatter path
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+
+        char[] buffer = BUFFER.get();
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            int fractionDigits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                fractionDigits--;
+            }
+            buffer[19] = '.';
+            digits(buffer, 20, nano, fractionDigits);
+            length = 20 + fractionDigits;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    /** Writes {@code value} zero-padded to {@code width} digits */
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.followjobs.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.entity.ApplicationStatus;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Hand-written serializer for {@link JobApplicationDTO}, the type behind every
+ * list and search response.
+ *
+ * Produces the same JSON as the default bean serializer (same field order,
+ * nulls included) but writes straight into the generator's buffer: field
+ * names, status names and known portals are pre-encoded
+ * {@link SerializedString}s, so their quoted UTF-8 bytes are copied instead
+ * of being escaped and encoded for every row, and dates skip the per-value
+ * String of the JavaTimeModule serializer.
+ */
+@JsonComponent
+public class JobApplicationDTOSerializer extends StdSerializer<JobApplicationDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString APPLICATION_DATE = new SerializedString("applicationDate");
+    private static final SerializedString COMPANY = new SerializedString("company");
+    private static final SerializedString POSITION = new SerializedString("position");
+    private static final SerializedString EMPLOYMENT_TYPE = new SerializedString("employmentType");
+    private static final SerializedString PORTAL = new SerializedString("portal");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString RESPONSE_DATE = new SerializedString("responseDate");
+    private static final SerializedString JOB_URL = new SerializedString("jobUrl");
+    private static final SerializedString NOTES = new SerializedString("notes");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    /** Indexed by ordinal */
+    private static final SerializedString[] STATUS_VALUES = statusValues();
+
+    /** Portals the application knows about; any other value is written as a plain string */
+    private static final Map<String, SerializedString> PORTAL_VALUES = Map.of(
+            "LinkedIn", new SerializedString("LinkedIn"),
+            "Indeed", new SerializedString("Indeed"),
+            "Computrabajo", new SerializedString("Computrabajo"),
+            "ChileTrabajos", new SerializedString("ChileTrabajos"),
+            "GetOnBoard", new SerializedString("GetOnBoard"));
+
+    public JobApplicationDTOSerializer() {
+        super(JobApplicationDTO.class);
+    }
+
+    @Override
+    public void serialize(JobApplicationDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+
+        gen.writeFieldName(ID);
+        if (dto.getId() != null) {
+            gen.writeNumber(dto.getId());
+        } else {
+            gen.writeNull();
+        }
+        writeDate(gen, APPLICATION_DATE, dto.getApplicationDate());
+        writeString(gen, COMPANY, dto.getCompany());
+        writeString(gen, POSITION, dto.getPosition());
+        writeString(gen, EMPLOYMENT_TYPE, dto.getEmploymentType());
+
+        gen.writeFieldName(PORTAL);
+        SerializedString portal = dto.getPortal() != null ? PORTAL_VALUES.get(dto.getPortal()) : null;
+        if (portal != null) {
+            gen.writeString(portal);
+        } else {
+            gen.writeString(dto.getPortal());
+        }
+
+        gen.writeFieldName(STATUS);
+        if (dto.getStatus() != null) {
+            gen.writeString(STATUS_VALUES[dto.getStatus().ordinal()]);
+        } else {
+            gen.writeNull();
+        }
+        writeDate(gen, RESPONSE_DATE, dto.getResponseDate());
+        writeString(gen, JOB_URL, dto.getJobUrl());
+        writeString(gen, NOTES, dto.getNotes());
+        writeDate(gen, CREATED_AT, dto.getCreatedAt());
+        writeDate(gen, UPDATED_AT, dto.getUpdatedAt());
+
+        gen.writeEndObject();
+    }
+
+    /** writeString(null) writes a JSON null */
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private static void writeDate(JsonGenerator gen, SerializedString name, LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value != null) {
+            IsoDateTimes.write(gen, value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    private static SerializedString[] statusValues() {
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        SerializedString[] values = new SerializedString[statuses.length];
+        for (ApplicationStatus status : statuses) {
+            values[status.ordinal()] = new SerializedString(status.name());
+        }
+        return values;
+    }
+}
@@ -2,10 +2,13 @@ package com.followjobs.repository;
 
 import com.followjobs.entity.ApplicationStatus;
 import com.followjobs.entity.JobApplication;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,58 +17,99 @@ import java.util.Optional;
 /**
  * Repository for JobApplication entity.
  * Spring Data JPA generates the implementation automatically.
+ * Every method is scoped to a tenant, matching the tenant-leading indexes.
+ * Query methods run in a read-only transaction (as the inherited CRUD methods
+ * do), so the Hibernate tenant filter is enabled for them as well.
  */
 @Repository
+@Transactional(readOnly = true)
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
-    List<JobApplication> findByPortal(String portal);
+    Optional<JobApplication> findByIdAndTenantId(Long id, String tenantId);
 
-    List<JobApplication> findByStatus(ApplicationStatus status);
+    List<JobApplication> findByTenantIdAndPortal(String tenantId, String portal);
 
-    List<JobApplication> findByCompanyContainingIgnoreCase(String company);
+    List<JobApplication> findByTenantIdAndStatus(String tenantId, ApplicationStatus status);
 
-    List<JobApplication> findByPositionContainingIgnoreCase(String position);
+    List<JobApplication> findByTenantIdAndCompanyContainingIgnoreCase(String tenantId, String company);
 
-    List<JobApplication> findByPortalAndStatusOrderByApplicationDateDesc(
+    List<JobApplication> findByTenantIdAndPositionContainingIgnoreCase(String tenantId, String position);
+
+    List<JobApplication> findByTenantIdAndPortalAndStatusOrderByApplicationDateDesc(
+            String tenantId,
             String portal,
             ApplicationStatus status);
 
-    Optional<JobApplication> findByGmailMessageId(String gmailMessageId);
+    Optional<JobApplication> findByTenantIdAndGmailMessageId(String tenantId, String gmailMessageId);
 
-    boolean existsByGmailMessageId(String gmailMessageId);
+    boolean existsByTenantIdAndGmailMessageId(String tenantId, String gmailMessageId);
 
-    List<JobApplication> findByApplicationDateBetween(
+    List<JobApplication> findByTenantIdAndApplicationDateBetween(
+            String tenantId,
             LocalDateTime startDate,
             LocalDateTime endDate);
 
-    @Query("SELECT COUNT(j) FROM JobApplication j WHERE j.status = :status")
-    long countByStatus(@Param("status") ApplicationStatus status);
+    /** Newest applications of a tenant, one page at a time */
+    List<JobApplication> findByTenantIdOrderByApplicationDateDesc(String tenantId, Pageable pageable);
+
+    @Query("SELECT COUNT(j) FROM JobApplication j WHERE j.tenantId = :tenantId AND j.status = :status")
+    long countByStatus(@Param("tenantId") String tenantId, @Param("status") ApplicationStatus status);
 
-    @Query("SELECT j FROM JobApplication j ORDER BY j.applicationDate DESC")
-    List<JobApplication> findAllOrderByDateDesc();
+    @Query("SELECT j FROM JobApplication j WHERE j.tenantId = :tenantId ORDER BY j.applicationDate DESC")
+    List<JobApplication> findAllOrderByDateDesc(@Param("tenantId") String tenantId);
 
     /** Find applications without response after a certain date */
     @Query("""
                 SELECT j FROM JobApplication j
-                WHERE j.status = 'SENT'
+                WHERE j.tenantId = :tenantId
+                AND j.status = 'SENT'
                 AND j.applicationDate < :cutoffDate
                 AND j.responseDate IS NULL
                 ORDER BY j.applicationDate ASC
             """)
-    List<JobApplication> findStaleApplications(@Param("cutoffDate") LocalDateTime cutoffDate);
+    List<JobApplication> findStaleApplications(@Param("tenantId") String tenantId,
+            @Param("cutoffDate") LocalDateTime cutoffDate);
+
+    /** Tenants with the most applications, largest first; spans all tenants (startup warm-up only) */
+    @Query("SELECT j.tenantId FROM JobApplication j GROUP BY j.tenantId ORDER BY COUNT(j) DESC")
+    List<String> findLargestTenants(Pageable pageable);
+
+    @Query("SELECT j.portal, COUNT(j) FROM JobApplication j WHERE j.tenantId = :tenantId GROUP BY j.portal")
+    List<Object[]> countByPortalGrouped(@Param("tenantId") String tenantId);
 
-    @Query("SELECT j.portal, COUNT(j) FROM JobApplication j GROUP BY j.portal")
-    List<Object[]> countByPortalGrouped();
+    @Query("SELECT j.status, COUNT(j) FROM JobApplication j WHERE j.tenantId = :tenantId GROUP BY j.status")
+    List<Object[]> countByStatusGrouped(@Param("tenantId") String tenantId);
 
-    @Query("SELECT j.status, COUNT(j) FROM JobApplication j GROUP BY j.status")
-    List<Object[]> countByStatusGrouped();
+    /** Deletes one application of a tenant in a single statement; returns the rows deleted */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobApplication j WHERE j.id = :id AND j.tenantId = :tenantId")
+    int deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") String tenantId);
+
+    /** Count applications with invalid company/position data */
+    @Query("""
+                SELECT COUNT(j) FROM JobApplication j
+                WHERE j.tenantId = :tenantId
+                AND (j.company = 'No encontrado' OR j.company = '')
+                AND (j.position = 'No encontrado' OR j.position = '')
+            """)
+    long countInvalidApplications(@Param("tenantId") String tenantId);
 
-    /** Delete applications with invalid company/position data */
-    @org.springframework.data.jpa.repository.Modifying
+    /** IDs above :afterId of applications with invalid company/position data, one page at a time (keyset) */
     @Query("""
-                DELETE FROM JobApplication j
-                WHERE (j.company = 'No encontrado' OR j.company = '')
+                SELECT j.id FROM JobApplication j
+                WHERE j.tenantId = :tenantId
+                AND j.id > :afterId
+                AND (j.company = 'No encontrado' OR j.company = '')
                 AND (j.position = 'No encontrado' OR j.position = '')
+                ORDER BY j.id
             """)
-    int deleteInvalidApplications();
+    List<Long> findInvalidApplicationIds(@Param("tenantId") String tenantId, @Param("afterId") long afterId,
+            Pageable pageable);
+
+    /** Deletes the given applications of a tenant in a single statement; returns the rows deleted */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobApplication j WHERE j.id IN :ids AND j.tenantId = :tenantId")
+    int deleteByIdInAndTenantId(@Param("ids") List<Long> ids, @Param("tenantId") String tenantId);
 }
@@ -0,0 +1,62 @@
+package com.followjobs.repository;
+
+import com.followjobs.entity.ApplicationStatus;
+import com.followjobs.entity.ReactiveJobApplication;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking repository for the reactive profile.
+ * Results are streamed row by row and honor downstream demand.
+ * Every method is scoped to a tenant, matching the tenant-leading indexes.
+ */
+@Repository
+public interface ReactiveJobApplicationRepository extends R2dbcRepository<ReactiveJobApplication, Long> {
+
+    Mono<ReactiveJobApplication> findByIdAndTenantId(Long id, String tenantId);
+
+    Flux<ReactiveJobApplication> findByTenantIdOrderByApplicationDateDesc(String tenantId);
+
+    Flux<ReactiveJobApplication> findByTenantIdAndPortal(String tenantId, String portal);
+
+    Flux<ReactiveJobApplication> findByTenantIdAndStatus(String tenantId, ApplicationStatus status);
+
+    Flux<ReactiveJobApplication> findByTenantIdAndCompanyContainingIgnoreCase(String tenantId, String company);
+
+    /** Deletes one application of a tenant in a single statement; emits the rows deleted */
+    @Modifying
+    @Query("DELETE FROM job_applications WHERE id = :id AND tenant_id = :tenantId")
+    Mono<Integer> deleteByIdAndTenantId(Long id, String tenantId);
+
+    /** Count applications with invalid company/position data */
+    @Query("""
+                SELECT COUNT(*) FROM job_applications
+                WHERE tenant_id = :tenantId
+                AND (company = 'No encontrado' OR company = '')
+                AND (position = 'No encontrado' OR position = '')
+            """)
+    Mono<Long> countInvalidApplications(String tenantId);
+
+    /** IDs above :afterId of applications with invalid company/position data, at most :limit (keyset) */
+    @Query("""
+                SELECT id FROM job_applications
+                WHERE tenant_id = :tenantId
+                AND id > :afterId
+                AND (company = 'No encontrado' OR company = '')
+                AND (position = 'No encontrado' OR position = '')
+                ORDER BY id
+                LIMIT :limit
+            """)
+    Flux<Long> findInvalidApplicationIds(String tenantId, long afterId, int limit);
+
+    /** Deletes the given applications of a tenant in a single statement; emits the rows deleted */
+    @Modifying
+    @Query("DELETE FROM job_applications WHERE id IN (:ids) AND tenant_id = :tenantId")
+    Mono<Integer> deleteByIdInAndTenantId(List<Long> ids, String tenantId);
+}
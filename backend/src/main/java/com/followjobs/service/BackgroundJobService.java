@@ -0,0 +1,244 @@
+package com.followjobs.service;
+
+import com.followjobs.config.BackgroundJobProperties;
+import com.followjobs.dto.JobStatusDTO;
+import com.followjobs.exception.JobRejectedException;
+import com.followjobs.job.BackgroundJob;
+import com.followjobs.job.ChunkedTask;
+import com.followjobs.job.JobState;
+import com.followjobs.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs long operations in bounded chunks on a dedicated executor.
+ * Callers get a job id immediately and poll for progress, so requests never
+ * wait for (or time out on) bulk work.
+ *
+ * Jobs are kept per tenant: a tenant only sees its own jobs, listing costs
+ * in proportion to that tenant's jobs, and retention is counted per tenant
+ * so one busy tenant cannot evict another tenant's history. A tenant's entry
+ * only exists while it has retained jobs: it is created by submit (never by
+ * reads, whose tenant header is unauthenticated) and removed once its last
+ * job expires.
+ *
+ * A tenant has at most one active (queued or running) job per type:
+ * submitting again returns the active job instead of queueing a duplicate
+ * that would work on the same rows.
+ */
+@Service
+@Slf4j
+public class BackgroundJobService {
+
+    private final BackgroundJobProperties properties;
+    private final Clock clock;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, Map<Long, BackgroundJob>> jobsByTenant = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public BackgroundJobService(BackgroundJobProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    /** Tests pass their own clock to control when jobs record their timestamps */
+    BackgroundJobService(BackgroundJobProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.executor = createExecutor(properties);
+    }
+
+    /** Dedicated pool that keeps bulk operations off the request threads */
+    private static ThreadPoolTaskExecutor createExecutor(BackgroundJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("background-job-");
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        // Running jobs stop at their next chunk boundary once cancelled on shutdown
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // ---------- Job Operations ----------
+
+    /**
+     * Queues a job, or returns the tenant's active job of the same type.
+     *
+     * @throws JobRejectedException if the executor queue is full
+     */
+    public JobStatusDTO submit(String tenantId, String type, ChunkedTask task) {
+        evictExpiredJobs();
+        AtomicReference<BackgroundJob> submitted = new AtomicReference<>();
+
+        // compute() locks the tenant's entry: submissions of a tenant are serialized, so two
+        // requests cannot both miss the active job, and eviction cannot drop the map meanwhile.
+        // A rejected job throws before anything is stored, so no entry is created for it.
+        jobsByTenant.compute(tenantId, (tenant, current) -> {
+            Map<Long, BackgroundJob> jobs = current != null ? current : new ConcurrentHashMap<>();
+
+            Optional<BackgroundJob> active = findActive(jobs, type);
+            if (active.isPresent()) {
+                log.info("Job {} ({}) already active for tenant {}", active.get().getId(), type, tenantId);
+                submitted.set(active.get());
+                return jobs;
+            }
+
+            BackgroundJob job = new BackgroundJob(sequence.incrementAndGet(), tenantId, type, clock);
+            try {
+                job.attach(executor.submit(() -> run(job, task)));
+            } catch (TaskRejectedException ex) {
+                log.warn("Job ({}) for tenant {} rejected: executor queue is full", type, tenantId);
+                throw new JobRejectedException("Too many jobs queued. Please try again later.");
+            }
+            jobs.put(job.getId(), job);
+            log.info("Submitted job {} ({}) for tenant {}", job.getId(), type, tenantId);
+
+            evictFinishedJobs(jobs);
+            submitted.set(job);
+            return jobs;
+        });
+        return toDTO(submitted.get());
+    }
+
+    public Optional<JobStatusDTO> findById(String tenantId, Long id) {
+        return Optional.ofNullable(jobs(tenantId).get(id)).map(this::toDTO);
+    }
+
+    public List<JobStatusDTO> findAll(String tenantId) {
+        return jobs(tenantId).values()
+                .stream()
+                .sorted(Comparator.comparing(BackgroundJob::getId).reversed())
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /** Cancels a job; a running job stops after the chunk in progress */
+    public Optional<JobStatusDTO> cancel(String tenantId, Long id) {
+        return Optional.ofNullable(jobs(tenantId).get(id)).map(job -> {
+            log.info("Cancelling job {}", id);
+            job.requestCancel();
+            return toDTO(job);
+        });
+    }
+
+    /** Cancels all jobs and waits (bounded) for running ones to stop at their chunk boundary */
+    @PreDestroy
+    void shutdown() {
+        jobsByTenant.values().forEach(jobs -> jobs.values().forEach(BackgroundJob::requestCancel));
+        executor.shutdown();
+    }
+
+    private Optional<BackgroundJob> findActive(Map<Long, BackgroundJob> jobs, String type) {
+        return jobs.values()
+                .stream()
+                .filter(job -> job.getType().equals(type) && !job.getState().isFinished())
+                .findFirst();
+    }
+
+    /** Read-only view of a tenant's jobs; never creates an entry */
+    private Map<Long, BackgroundJob> jobs(String tenantId) {
+        return jobsByTenant.getOrDefault(tenantId, Map.of());
+    }
+
+    // ---------- Execution ----------
+
+    private void run(BackgroundJob job, ChunkedTask task) {
+        if (!job.start()) {
+            return;
+        }
+
+        // Tasks built on the servlet stack read the tenant from the thread, as in a request
+        TenantContext.set(job.getTenantId());
+        try {
+            job.setTotalRows(task.estimateTotal());
+
+            while (!job.isCancelRequested()) {
+                int processed = task.processChunk(properties.getChunkSize());
+                if (processed == ChunkedTask.DONE) {
+                    break;
+                }
+                job.addProcessed(processed);
+            }
+
+            job.finish(job.isCancelRequested() ? JobState.CANCELLED : JobState.COMPLETED, null);
+            log.info("Job {} {}: {} rows in {}s", job.getId(), job.getState(),
+                    job.getProcessedRows().get(), String.format("%.1f", job.elapsedSeconds()));
+        } catch (Exception ex) {
+            log.error("Job {} failed: ", job.getId(), ex);
+            job.finish(JobState.FAILED, "Job failed after " + job.getProcessedRows().get() + " rows");
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /** Drops finished jobs past the retention period, and tenants left without jobs */
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetention());
+        for (String tenantId : jobsByTenant.keySet()) {
+            jobsByTenant.computeIfPresent(tenantId, (tenant, jobs) -> {
+                jobs.values().removeIf(job -> job.getState().isFinished() && job.getFinishedAt().isBefore(cutoff));
+                return jobs.isEmpty() ? null : jobs;
+            });
+        }
+    }
+
+    /** Drops a tenant's oldest finished jobs once it retains more than the configured amount */
+    private void evictFinishedJobs(Map<Long, BackgroundJob> jobs) {
+        int excess = jobs.size() - properties.getRetainedJobs();
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values()
+                .stream()
+                .filter(job -> job.getState().isFinished())
+                .sorted(Comparator.comparing(BackgroundJob::getId))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    // ---------- Mappers ----------
+
+    private JobStatusDTO toDTO(BackgroundJob job) {
+        long processed = job.getProcessedRows().get();
+        long total = job.getTotalRows();
+        double elapsed = job.elapsedSeconds();
+        double rate = elapsed > 0 ? processed / elapsed : 0.0;
+
+        Long eta = null;
+        if (job.getState() == JobState.RUNNING && total >= 0 && rate > 0) {
+            eta = (long) Math.ceil(Math.max(0, total - processed) / rate);
+        }
+
+        return JobStatusDTO.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .state(job.getState())
+                .totalRows(total >= 0 ? total : null)
+                .processedRows(processed)
+                .rowsPerSecond(Math.round(rate * 10) / 10.0)
+                .etaSeconds(eta)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+}
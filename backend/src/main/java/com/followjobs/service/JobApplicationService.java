@@ -1,14 +1,21 @@
 package com.followjobs.service;
 
 import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.dto.JobApplicationMapper;
+import com.followjobs.dto.JobStatusDTO;
 import com.followjobs.dto.UpdateStatusDTO;
 import com.followjobs.entity.ApplicationStatus;
 import com.followjobs.entity.JobApplication;
+import com.followjobs.job.ChunkedTask;
 import com.followjobs.repository.JobApplicationRepository;
+import com.followjobs.tenant.TenantContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,27 +26,34 @@ import java.util.stream.Collectors;
  * Service layer for job applications.
  * Contains business logic and acts as intermediary between controller and
  * repository.
+ * All operations act on the tenant of the current request ({@link TenantContext}).
+ * Replaced by {@link ReactiveJobApplicationService} in the reactive profile.
  */
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 public class JobApplicationService {
 
+    private static final String CLEANUP_JOB_TYPE = "CLEAN_INVALID_APPLICATIONS";
+
     private final JobApplicationRepository repository;
+    private final BackgroundJobService jobService;
+    private final TransactionTemplate transactionTemplate;
 
     // ---------- CRUD Operations ----------
 
     public List<JobApplicationDTO> findAll() {
         log.info("Fetching all applications");
-        return repository.findAllOrderByDateDesc()
+        return repository.findAllOrderByDateDesc(TenantContext.require())
                 .stream()
-                .map(this::toDTO)
+                .map(JobApplicationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public Optional<JobApplicationDTO> findById(Long id) {
         log.info("Finding application with ID: {}", id);
-        return repository.findById(id).map(this::toDTO);
+        return repository.findByIdAndTenantId(id, TenantContext.require()).map(JobApplicationMapper::toDTO);
     }
 
     @Transactional
@@ -47,6 +61,7 @@ public class JobApplicationService {
         log.info("Creating application: {} - {}", dto.getCompany(), dto.getPosition());
 
         JobApplication entity = toEntity(dto);
+        entity.setTenantId(TenantContext.require());
         entity.setApplicationDate(
                 dto.getApplicationDate() != null ? dto.getApplicationDate() : LocalDateTime.now());
         entity.setStatus(ApplicationStatus.SENT);
@@ -54,14 +69,14 @@ public class JobApplicationService {
         JobApplication saved = repository.save(entity);
         log.info("Application created with ID: {}", saved.getId());
 
-        return toDTO(saved);
+        return JobApplicationMapper.toDTO(saved);
     }
 
     @Transactional
     public Optional<JobApplicationDTO> update(Long id, JobApplicationDTO dto) {
         log.info("Updating application with ID: {}", id);
 
-        return repository.findById(id).map(existing -> {
+        return repository.findByIdAndTenantId(id, TenantContext.require()).map(existing -> {
             existing.setCompany(dto.getCompany());
             existing.setPosition(dto.getPosition());
             existing.setEmploymentType(dto.getEmploymentType());
@@ -75,7 +90,7 @@ public class JobApplicationService {
 
             JobApplication updated = repository.save(existing);
             log.info("Application updated: {}", updated.getId());
-            return toDTO(updated);
+            return JobApplicationMapper.toDTO(updated);
         });
     }
 
@@ -87,7 +102,7 @@ public class JobApplicationService {
     public Optional<JobApplicationDTO> updateStatus(Long id, UpdateStatusDTO dto) {
         log.info("Updating status of application {} to {}", id, dto.getStatus());
 
-        return repository.findById(id).map(existing -> {
+        return repository.findByIdAndTenantId(id, TenantContext.require()).map(existing -> {
             ApplicationStatus newStatus = dto.getStatus();
             existing.setStatus(newStatus);
 
@@ -106,7 +121,7 @@ public class JobApplicationService {
                 existing.setNotes(currentNotes + "[" + LocalDateTime.now() + "] " + dto.getNotes());
             }
 
-            return toDTO(repository.save(existing));
+            return JobApplicationMapper.toDTO(repository.save(existing));
         });
     }
 
@@ -114,8 +129,7 @@ public class JobApplicationService {
     public boolean delete(Long id) {
         log.info("Deleting application with ID: {}", id);
 
-        if (repository.existsById(id)) {
-            repository.deleteById(id);
+        if (repository.deleteByIdAndTenantId(id, TenantContext.require()) > 0) {
             log.info("Application deleted: {}", id);
             return true;
         }
@@ -128,58 +142,68 @@ public class JobApplicationService {
 
     public List<JobApplicationDTO> findByPortal(String portal) {
         log.info("Finding applications from portal: {}", portal);
-        return repository.findByPortal(portal)
+        return repository.findByTenantIdAndPortal(TenantContext.require(), portal)
                 .stream()
-                .map(this::toDTO)
+                .map(JobApplicationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public List<JobApplicationDTO> findByStatus(ApplicationStatus status) {
         log.info("Finding applications with status: {}", status);
-        return repository.findByStatus(status)
+        return repository.findByTenantIdAndStatus(TenantContext.require(), status)
                 .stream()
-                .map(this::toDTO)
+                .map(JobApplicationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public List<JobApplicationDTO> searchByCompany(String company) {
         log.info("Searching applications by company: {}", company);
-        return repository.findByCompanyContainingIgnoreCase(company)
+        return repository.findByTenantIdAndCompanyContainingIgnoreCase(TenantContext.require(), company)
                 .stream()
-                .map(this::toDTO)
+                .map(JobApplicationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     // ---------- Cleanup Operations ----------
 
-    /** Removes applications with invalid data (empty company/position) */
-    @Transactional
-    public int cleanInvalidApplications() {
-        log.info("Running cleanup of invalid applications");
-        int deleted = repository.deleteInvalidApplications();
-        log.info("Invalid applications deleted: {}", deleted);
-        return deleted;
-    }
+    /**
+     * Starts a background job removing applications with invalid data
+     * (empty company/position). Rows are deleted in small batches, each in
+     * its own transaction, so the table is never locked for long.
+     * Only the current tenant's rows are touched.
+     */
+    public JobStatusDTO startInvalidApplicationsCleanup() {
+        String tenantId = TenantContext.require();
+        log.info("Starting cleanup job for invalid applications of tenant {}", tenantId);
 
-    // ---------- Mappers ----------
+        return jobService.submit(tenantId, CLEANUP_JOB_TYPE, new ChunkedTask() {
+            // Keyset cursor: each chunk resumes after the last id seen instead of rescanning from the first row
+            private long lastId;
 
-    private JobApplicationDTO toDTO(JobApplication entity) {
-        return JobApplicationDTO.builder()
-                .id(entity.getId())
-                .applicationDate(entity.getApplicationDate())
-                .company(entity.getCompany())
-                .position(entity.getPosition())
-                .employmentType(entity.getEmploymentType())
-                .portal(entity.getPortal())
-                .status(entity.getStatus())
-                .responseDate(entity.getResponseDate())
-                .jobUrl(entity.getJobUrl())
-                .notes(entity.getNotes())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+            @Override
+            public long estimateTotal() {
+                return repository.countInvalidApplications(tenantId);
+            }
+
+            @Override
+            public int processChunk(int chunkSize) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<Long> ids = repository.findInvalidApplicationIds(tenantId, lastId, PageRequest.of(0, chunkSize));
+                    if (ids.isEmpty()) {
+                        return ChunkedTask.DONE;
+                    }
+                    lastId = ids.get(ids.size() - 1);
+                    // Rows removed concurrently (e.g. by a single delete) are not counted as processed
+                    return repository.deleteByIdInAndTenantId(ids, tenantId);
+                });
+                log.debug("Invalid applications deleted in chunk: {}", deleted);
+                return deleted != null ? deleted : ChunkedTask.DONE;
+            }
+        });
     }
 
+    // ---------- Mappers ----------
+
     private JobApplication toEntity(JobApplicationDTO dto) {
         return JobApplication.builder()
                 .applicationDate(dto.getApplicationDate())
@@ -0,0 +1,225 @@
+package com.followjobs.service;
+
+import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.dto.JobApplicationMapper;
+import com.followjobs.dto.JobStatusDTO;
+import com.followjobs.dto.UpdateStatusDTO;
+import com.followjobs.entity.ApplicationStatus;
+import com.followjobs.entity.ReactiveJobApplication;
+import com.followjobs.job.ChunkedTask;
+import com.followjobs.repository.ReactiveJobApplicationRepository;
+import com.followjobs.tenant.TenantContext;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link JobApplicationService} for the reactive profile.
+ * Same business rules and DTOs, backed by R2DBC.
+ * The tenant comes from the subscriber context ({@link TenantContext#current()}).
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveJobApplicationService {
+
+    private static final String CLEANUP_JOB_TYPE = "CLEAN_INVALID_APPLICATIONS";
+
+    private final ReactiveJobApplicationRepository repository;
+    private final BackgroundJobService jobService;
+
+    // ---------- CRUD Operations ----------
+
+    public Flux<JobApplicationDTO> findAll() {
+        log.info("Fetching all applications");
+        return TenantContext.current()
+                .flatMapMany(repository::findByTenantIdOrderByApplicationDateDesc)
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    public Mono<JobApplicationDTO> findById(Long id) {
+        log.info("Finding application with ID: {}", id);
+        return TenantContext.current()
+                .flatMap(tenantId -> repository.findByIdAndTenantId(id, tenantId))
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    @Transactional
+    public Mono<JobApplicationDTO> create(JobApplicationDTO dto) {
+        log.info("Creating application: {} - {}", dto.getCompany(), dto.getPosition());
+
+        return TenantContext.current()
+                .flatMap(tenantId -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    ReactiveJobApplication entity = toEntity(dto);
+                    entity.setTenantId(tenantId);
+                    entity.setApplicationDate(dto.getApplicationDate() != null ? dto.getApplicationDate() : now);
+                    entity.setStatus(ApplicationStatus.SENT);
+                    entity.setCreatedAt(now);
+                    entity.setUpdatedAt(now);
+                    return repository.save(entity);
+                })
+                .doOnNext(saved -> log.info("Application created with ID: {}", saved.getId()))
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    @Transactional
+    public Mono<JobApplicationDTO> update(Long id, JobApplicationDTO dto) {
+        log.info("Updating application with ID: {}", id);
+
+        return TenantContext.current()
+                .flatMap(tenantId -> repository.findByIdAndTenantId(id, tenantId))
+                .flatMap(existing -> {
+                    existing.setCompany(dto.getCompany());
+                    existing.setPosition(dto.getPosition());
+                    existing.setEmploymentType(dto.getEmploymentType());
+                    existing.setPortal(dto.getPortal());
+                    existing.setJobUrl(dto.getJobUrl());
+                    existing.setNotes(dto.getNotes());
+
+                    if (dto.getStatus() != null) {
+                        existing.setStatus(dto.getStatus());
+                    }
+                    existing.setUpdatedAt(LocalDateTime.now());
+                    return repository.save(existing);
+                })
+                .doOnNext(updated -> log.info("Application updated: {}", updated.getId()))
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    /**
+     * Updates only the status of an application.
+     * Automatically records response date for REJECTED, ACCEPTED, or INTERVIEW.
+     */
+    @Transactional
+    public Mono<JobApplicationDTO> updateStatus(Long id, UpdateStatusDTO dto) {
+        log.info("Updating status of application {} to {}", id, dto.getStatus());
+
+        return TenantContext.current()
+                .flatMap(tenantId -> repository.findByIdAndTenantId(id, tenantId))
+                .flatMap(existing -> {
+                    ApplicationStatus newStatus = dto.getStatus();
+                    existing.setStatus(newStatus);
+
+                    // Record response date when company responds
+                    if (newStatus == ApplicationStatus.REJECTED ||
+                            newStatus == ApplicationStatus.ACCEPTED ||
+                            newStatus == ApplicationStatus.INTERVIEW) {
+
+                        existing.setResponseDate(LocalDateTime.now());
+                        log.info("Response date recorded for application {}", id);
+                    }
+
+                    // Append notes if provided
+                    if (dto.getNotes() != null && !dto.getNotes().isBlank()) {
+                        String currentNotes = existing.getNotes() != null ? existing.getNotes() + "\n" : "";
+                        existing.setNotes(currentNotes + "[" + LocalDateTime.now() + "] " + dto.getNotes());
+                    }
+
+                    existing.setUpdatedAt(LocalDateTime.now());
+                    return repository.save(existing);
+                })
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    @Transactional
+    public Mono<Boolean> delete(Long id) {
+        log.info("Deleting application with ID: {}", id);
+
+        return TenantContext.current()
+                .flatMap(tenantId -> repository.deleteByIdAndTenantId(id, tenantId))
+                .map(deleted -> {
+                    if (deleted == 0) {
+                        log.warn("Application not found for deletion: {}", id);
+                        return false;
+                    }
+                    log.info("Application deleted: {}", id);
+                    return true;
+                });
+    }
+
+    // ---------- Search Operations ----------
+
+    public Flux<JobApplicationDTO> findByPortal(String portal) {
+        log.info("Finding applications from portal: {}", portal);
+        return TenantContext.current()
+                .flatMapMany(tenantId -> repository.findByTenantIdAndPortal(tenantId, portal))
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    public Flux<JobApplicationDTO> findByStatus(ApplicationStatus status) {
+        log.info("Finding applications with status: {}", status);
+        return TenantContext.current()
+                .flatMapMany(tenantId -> repository.findByTenantIdAndStatus(tenantId, status))
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    public Flux<JobApplicationDTO> searchByCompany(String company) {
+        log.info("Searching applications by company: {}", company);
+        return TenantContext.current()
+                .flatMapMany(tenantId -> repository.findByTenantIdAndCompanyContainingIgnoreCase(tenantId, company))
+                .map(JobApplicationMapper::toDTO);
+    }
+
+    // ---------- Cleanup Operations ----------
+
+    /**
+     * Starts a background job removing applications with invalid data.
+     * The job runs on the background executor, never on the event loop,
+     * so it may block on each chunk. Only the current tenant's rows are touched.
+     */
+    public Mono<JobStatusDTO> startInvalidApplicationsCleanup() {
+        return TenantContext.current().map(tenantId -> {
+            log.info("Starting cleanup job for invalid applications of tenant {}", tenantId);
+            return jobService.submit(tenantId, CLEANUP_JOB_TYPE, cleanupTask(tenantId));
+        });
+    }
+
+    private ChunkedTask cleanupTask(String tenantId) {
+        return new ChunkedTask() {
+            // Keyset cursor: each chunk resumes after the last id seen instead of rescanning from the first row
+            private long lastId;
+
+            @Override
+            public long estimateTotal() {
+                Long total = repository.countInvalidApplications(tenantId).block();
+                return total != null ? total : -1;
+            }
+
+            @Override
+            public int processChunk(int chunkSize) {
+                List<Long> ids = repository.findInvalidApplicationIds(tenantId, lastId, chunkSize).collectList().block();
+                if (ids == null || ids.isEmpty()) {
+                    return ChunkedTask.DONE;
+                }
+                lastId = ids.get(ids.size() - 1);
+                Integer deleted = repository.deleteByIdInAndTenantId(ids, tenantId).block();
+                return deleted != null ? deleted : 0;
+            }
+        };
+    }
+
+    // ---------- Mappers ----------
+
+    private ReactiveJobApplication toEntity(JobApplicationDTO dto) {
+        return ReactiveJobApplication.builder()
+                .applicationDate(dto.getApplicationDate())
+                .company(dto.getCompany())
+                .position(dto.getPosition())
+                .employmentType(dto.getEmploymentType())
+                .portal(dto.getPortal())
+                .status(dto.getStatus())
+                .responseDate(dto.getResponseDate())
+                .jobUrl(dto.getJobUrl())
+                .notes(dto.getNotes())
+                .build();
+    }
+}
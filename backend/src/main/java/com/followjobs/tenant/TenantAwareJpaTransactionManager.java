@@ -0,0 +1,41 @@
+package com.followjobs.tenant;
+
+import com.followjobs.entity.JobApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Enables the Hibernate tenant filter on every transaction for the tenant
+ * bound to the current thread.
+ *
+ * Spring Data repositories run each call in a (read-only) transaction, so
+ * every HQL/criteria query over {@link JobApplication} is scoped to the tenant
+ * even if it forgets the tenant condition. Repository methods still take the
+ * tenant ID explicitly: the filter does not apply to loads by primary key, and
+ * the explicit predicate lets the planner use the tenant-leading indexes.
+ */
+public class TenantAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public TenantAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        String tenantId = TenantContext.get();
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+                .getResource(obtainEntityManagerFactory());
+        if (tenantId != null && holder != null) {
+            holder.getEntityManager()
+                    .unwrap(Session.class)
+                    .enableFilter(JobApplication.TENANT_FILTER)
+                    .setParameter(JobApplication.TENANT_PARAMETER, tenantId);
+        }
+    }
+}
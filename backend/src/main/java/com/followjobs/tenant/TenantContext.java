@@ -0,0 +1,82 @@
+package com.followjobs.tenant;
+
+import com.followjobs.exception.InvalidTenantException;
+import reactor.core.publisher.Mono;
+
+import java.util.regex.Pattern;
+
+/**
+ * Tenant of the current request.
+ * This partitions data, it does not control access: the header is trusted as
+ * sent, so it must be set by an authenticating gateway that strips any value
+ * coming from the client.
+ * The servlet stack keeps it in a thread-local set by {@link TenantInterceptor};
+ * the reactive stack carries the raw header in the Reactor context
+ * ({@link TenantWebFilter}) and resolves it with {@link #current()}.
+ */
+public final class TenantContext {
+
+    /** Request header naming the tenant (user or organisation) that owns the data */
+    public static final String HEADER = "X-Tenant-ID";
+
+    /** Tenant used when the header is absent; owns all rows created before multi-tenancy */
+    public static final String DEFAULT_TENANT = "default";
+
+    /** Reactor context key holding the raw header value */
+    static final String CONTEXT_KEY = TenantContext.class.getName();
+
+    private static final Pattern VALID_TENANT = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.-]{0,63}");
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Validates a header value.
+     *
+     * @return the tenant ID, or {@link #DEFAULT_TENANT} when no header was sent
+     * @throws InvalidTenantException if the value is not a valid tenant ID
+     */
+    public static String resolve(String header) {
+        if (header == null || header.isEmpty()) {
+            return DEFAULT_TENANT;
+        }
+        if (!VALID_TENANT.matcher(header).matches()) {
+            throw new InvalidTenantException(header);
+        }
+        return header;
+    }
+
+    // ---------- Servlet (thread-bound) ----------
+
+    /** Tenant bound to this thread, or null outside a request or background job */
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    /** Tenant bound to this thread; fails if there is none */
+    public static String require() {
+        String tenantId = CURRENT.get();
+        if (tenantId == null) {
+            throw new IllegalStateException("No tenant bound to the current thread");
+        }
+        return tenantId;
+    }
+
+    public static void set(String tenantId) {
+        CURRENT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    // ---------- Reactive (subscriber context) ----------
+
+    /** Tenant of the current reactive request, resolved from the subscriber context */
+    public static Mono<String> current() {
+        return Mono.deferContextual(context ->
+                Mono.fromCallable(() -> resolve(context.getOrDefault(CONTEXT_KEY, null))));
+    }
+}
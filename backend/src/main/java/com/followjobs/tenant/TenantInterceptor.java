@@ -0,0 +1,25 @@
+package com.followjobs.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Binds the tenant from the X-Tenant-ID header to the request thread.
+ * An invalid header fails here, before any handler runs, and is turned
+ * into a 400 by the global exception handler.
+ */
+public class TenantInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TenantContext.set(TenantContext.resolve(request.getHeader(TenantContext.HEADER)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        TenantContext.clear();
+    }
+}
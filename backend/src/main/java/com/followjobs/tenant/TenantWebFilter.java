@@ -0,0 +1,28 @@
+package com.followjobs.tenant;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link TenantInterceptor}.
+ * Puts the raw X-Tenant-ID header into the Reactor context; it is validated
+ * where it is read ({@link TenantContext#current()}), so an invalid value
+ * surfaces as an error of the handler and gets the usual 400 body.
+ */
+@Component
+@Profile("reactive")
+public class TenantWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(TenantContext.HEADER);
+        if (header == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(context -> context.put(TenantContext.CONTEXT_KEY, header));
+    }
+}
@@ -0,0 +1,19 @@
+-- Initial schema, equivalent to what Hibernate generated for JobApplication
+CREATE TABLE job_applications (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    application_date TIMESTAMP(6) NOT NULL,
+    company          VARCHAR(255) NOT NULL,
+    position         VARCHAR(255) NOT NULL,
+    employment_type  VARCHAR(100),
+    portal           VARCHAR(50)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL
+        CHECK (status IN ('SENT', 'REJECTED', 'ACCEPTED', 'INTERVIEW', 'NO_RESPONSE')),
+    response_date    TIMESTAMP(6),
+    job_url          VARCHAR(500),
+    notes            TEXT,
+    gmail_message_id VARCHAR(100),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT pk_job_applications PRIMARY KEY (id),
+    CONSTRAINT uk_job_applications_gmail_message_id UNIQUE (gmail_message_id)
+);
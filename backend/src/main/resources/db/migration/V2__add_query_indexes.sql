@@ -0,0 +1,5 @@
+-- Indexes for the lookup paths used by JobApplicationRepository.
+-- Dates are descending so "newest first" listings read the index in order instead of sorting.
+CREATE INDEX idx_job_applications_application_date ON job_applications (application_date DESC);
+CREATE INDEX idx_job_applications_portal_date ON job_applications (portal, application_date DESC);
+CREATE INDEX idx_job_applications_status_date ON job_applications (status, application_date DESC);
@@ -0,0 +1,18 @@
+-- Multi-tenancy: every row belongs to the tenant named by the X-Tenant-ID header.
+-- Existing rows go to the tenant used when no header is sent.
+ALTER TABLE job_applications ADD COLUMN tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL;
+
+-- Gmail message IDs are unique per mailbox, i.e. per tenant
+ALTER TABLE job_applications DROP CONSTRAINT uk_job_applications_gmail_message_id;
+ALTER TABLE job_applications ADD CONSTRAINT uk_job_applications_tenant_gmail_message_id
+    UNIQUE (tenant_id, gmail_message_id);
+
+-- Every query path leads with the tenant, so a lookup only reads that tenant's index range
+-- and its cost follows the tenant's row count rather than the whole table's.
+DROP INDEX idx_job_applications_application_date;
+DROP INDEX idx_job_applications_portal_date;
+DROP INDEX idx_job_applications_status_date;
+CREATE INDEX idx_job_applications_tenant_date ON job_applications (tenant_id, application_date DESC);
+CREATE INDEX idx_job_applications_tenant_portal_date ON job_applications (tenant_id, portal, application_date DESC);
+CREATE INDEX idx_job_applications_tenant_status_date ON job_applications (tenant_id, status, application_date DESC);
+CREATE INDEX idx_job_applications_tenant_company ON job_applications (tenant_id, company);
@@ -0,0 +1,5 @@
+-- The company search matches a substring without case (UPPER(company) LIKE '%x%'), which
+-- cannot seek into (tenant_id, company); such a search reads the tenant's range of
+-- idx_job_applications_tenant_date like any other tenant-scoped query. The index only
+-- added write cost, so it goes (V3 has already been applied, so it is dropped here).
+DROP INDEX idx_job_applications_tenant_company;
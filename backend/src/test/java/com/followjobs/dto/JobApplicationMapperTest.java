@@ -0,0 +1,79 @@
+package com.followjobs.dto;
+
+import com.followjobs.entity.ApplicationStatus;
+import com.followjobs.entity.JobApplication;
+import com.followjobs.entity.ReactiveJobApplication;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The mapper uses the DTO's positional all-args constructor, so every field
+ * gets a distinct value: reordered DTO fields (swapped values) or a field left
+ * unmapped make the comparison with the builder-made DTO fail. Both entity
+ * types must map to the same DTO.
+ */
+class JobApplicationMapperTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+    private static final LocalDateTime RESPONSE_DATE = LocalDateTime.of(2025, 2, 3, 4, 5, 6);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 4, 5, 6, 7);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 4, 5, 6, 7, 8);
+
+    @Test
+    void mapsEveryEntityFieldToTheDTO() {
+        JobApplicationDTO expected = JobApplicationDTO.builder()
+                .id(7L)
+                .applicationDate(APPLICATION_DATE)
+                .company("Company")
+                .position("Position")
+                .employmentType("Employment type")
+                .portal("Portal")
+                .status(ApplicationStatus.INTERVIEW)
+                .responseDate(RESPONSE_DATE)
+                .jobUrl("https://jobs.example.com/7")
+                .notes("Notes")
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+
+        JobApplication entity = JobApplication.builder()
+                .id(7L)
+                .tenantId("acme")
+                .applicationDate(APPLICATION_DATE)
+                .company("Company")
+                .position("Position")
+                .employmentType("Employment type")
+                .portal("Portal")
+                .status(ApplicationStatus.INTERVIEW)
+                .responseDate(RESPONSE_DATE)
+                .jobUrl("https://jobs.example.com/7")
+                .notes("Notes")
+                .gmailMessageId("gmail-7")
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+        ReactiveJobApplication reactiveEntity = ReactiveJobApplication.builder()
+                .id(7L)
+                .tenantId("acme")
+                .applicationDate(APPLICATION_DATE)
+                .company("Company")
+                .position("Position")
+                .employmentType("Employment type")
+                .portal("Portal")
+                .status(ApplicationStatus.INTERVIEW)
+                .responseDate(RESPONSE_DATE)
+                .jobUrl("https://jobs.example.com/7")
+                .notes("Notes")
+                .gmailMessageId("gmail-7")
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+
+        assertThat(expected).hasNoNullFieldsOrProperties();
+        assertThat(JobApplicationMapper.toDTO(entity)).isEqualTo(expected);
+        assertThat(JobApplicationMapper.toDTO(reactiveEntity)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,130 @@
+package com.followjobs.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.entity.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JobApplicationDTOSerializer} must write exactly what Jackson's bean
+ * serializer writes for the DTO (field order, nulls, ISO dates), so replacing
+ * one with the other never changes the API. Every test compares the bytes of
+ * both; a DTO field the serializer does not know about shows up as a mismatch.
+ */
+class JobApplicationDTOSerializerTest {
+
+    /** Same date handling as Boot's auto-configured mapper */
+    private final ObjectMapper beanMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper customMapper = beanMapper.copy()
+            .registerModule(new SimpleModule().addSerializer(new JobApplicationDTOSerializer()));
+
+    @Test
+    void writesEveryFieldLikeTheBeanSerializer() throws Exception {
+        assertSameJson(fullDTO());
+    }
+
+    @Test
+    void writesNullsLikeTheBeanSerializer() throws Exception {
+        assertSameJson(new JobApplicationDTO());
+    }
+
+    @Test
+    void writesListsLikeTheBeanSerializer() throws Exception {
+        List<JobApplicationDTO> dtos = new ArrayList<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            JobApplicationDTO dto = fullDTO();
+            dto.setStatus(status);
+            dtos.add(dto);
+        }
+        dtos.add(new JobApplicationDTO());
+
+        assertThat(customMapper.writeValueAsString(dtos)).isEqualTo(beanMapper.writeValueAsString(dtos));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApplicationStatus.class)
+    void writesEveryStatus(ApplicationStatus status) throws Exception {
+        JobApplicationDTO dto = fullDTO();
+        dto.setStatus(status);
+        assertSameJson(dto);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "LinkedIn", "Indeed", "Computrabajo", "ChileTrabajos", "GetOnBoard", "Bumeran", "", "linkedin" })
+    void writesKnownAndUnknownPortals(String portal) throws Exception {
+        JobApplicationDTO dto = fullDTO();
+        dto.setPortal(portal);
+        assertSameJson(dto);
+    }
+
+    @Test
+    void escapesStringsLikeTheBeanSerializer() throws Exception {
+        JobApplicationDTO dto = fullDTO();
+        dto.setCompany("Quote \" backslash \\ tab \t newline \n");
+        dto.setPosition("Desarrollador Señor — 🚀");
+        dto.setNotes("control \u0001 char");
+        assertSameJson(dto);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2025-03-04T10:15:30.123456789",
+            "2025-03-04T10:15:30.123456",
+            "2025-03-04T10:15:30.120",
+            "2025-03-04T10:15:30.000000001",
+            "2025-03-04T10:15:30",
+            "2025-03-04T10:15",
+            "2025-01-01T00:00",
+            "0999-12-31T23:59:59.9",
+            "9999-12-31T23:59:59.999999999",
+            "+10000-01-01T00:00:00.5",
+            "-0001-06-15T12:00" })
+    void writesDatesLikeTheJavaTimeModule(String date) throws Exception {
+        LocalDateTime value = LocalDateTime.parse(date);
+        JobApplicationDTO dto = fullDTO();
+        dto.setApplicationDate(value);
+        dto.setResponseDate(value);
+        dto.setCreatedAt(value);
+        dto.setUpdatedAt(value);
+        assertSameJson(dto);
+    }
+
+    private void assertSameJson(JobApplicationDTO dto) throws Exception {
+        assertThat(customMapper.writeValueAsBytes(dto)).isEqualTo(beanMapper.writeValueAsBytes(dto));
+    }
+
+    /** A DTO with every field set, so a field missing from the serializer changes the output */
+    private static JobApplicationDTO fullDTO() {
+        return JobApplicationDTO.builder()
+                .id(42L)
+                .applicationDate(LocalDateTime.of(2025, 3, 4, 10, 15, 30, 123_456_789))
+                .company("Acme")
+                .position("Backend Developer")
+                .employmentType("Remote")
+                .portal("LinkedIn")
+                .status(ApplicationStatus.INTERVIEW)
+                .responseDate(LocalDateTime.of(2025, 3, 10, 9, 0))
+                .jobUrl("https://jobs.example.com/offer/42")
+                .notes("Second round")
+                .createdAt(LocalDateTime.of(2025, 3, 4, 10, 15, 30, 123_456_000))
+                .updatedAt(LocalDateTime.of(2025, 3, 10, 9, 0, 1, 500_000_000))
+                .build();
+    }
+}
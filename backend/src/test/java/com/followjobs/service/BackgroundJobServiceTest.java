@@ -0,0 +1,121 @@
+package com.followjobs.service;
+
+import com.followjobs.config.BackgroundJobProperties;
+import com.followjobs.dto.JobStatusDTO;
+import com.followjobs.job.ChunkedTask;
+import com.followjobs.job.JobState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Retention eviction runs on the submitting thread while workers finish
+ * other jobs. The clock holds a worker inside finish() while another job is
+ * submitted, so eviction reads a job that is halfway through finishing.
+ */
+class BackgroundJobServiceTest {
+
+    private static final String TENANT = "acme";
+
+    private final FinishingClock clock = new FinishingClock();
+    private BackgroundJobService service;
+
+    @BeforeEach
+    void createService() {
+        BackgroundJobProperties properties = new BackgroundJobProperties();
+        // Every finished job has expired, so the next submission tries to evict it
+        properties.setRetention(Duration.ZERO);
+        service = new BackgroundJobService(properties, clock);
+    }
+
+    @AfterEach
+    void shutdown() {
+        clock.release();
+        service.shutdown();
+    }
+
+    @Test
+    void submitsWhileAnotherJobIsFinishing() throws InterruptedException {
+        JobStatusDTO finishing = service.submit(TENANT, "FINISHING", new EmptyTask(clock));
+        assertThat(clock.awaitFinishing()).isTrue();
+
+        JobStatusDTO submitted = service.submit(TENANT, "NEXT", new EmptyTask(null));
+        assertThat(submitted.getId()).isNotEqualTo(finishing.getId());
+
+        // Not evicted while finishing, and complete once the clock lets it go
+        clock.release();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(service.findById(TENANT, finishing.getId())).hasValueSatisfying(job -> {
+                    assertThat(job.getState()).isEqualTo(JobState.COMPLETED);
+                    assertThat(job.getFinishedAt()).isNotNull();
+                }));
+    }
+
+    /** A job with nothing to process; it can arm the clock to stall its own finish() */
+    private record EmptyTask(FinishingClock clock) implements ChunkedTask {
+
+        @Override
+        public long estimateTotal() {
+            return 0;
+        }
+
+        @Override
+        public int processChunk(int chunkSize) {
+            if (clock != null) {
+                // The worker's next clock read is the finish time
+                clock.armed.set(true);
+            }
+            return ChunkedTask.DONE;
+        }
+    }
+
+    /** System clock whose first read after arming blocks until released */
+    private static final class FinishingClock extends Clock {
+
+        private final AtomicBoolean armed = new AtomicBoolean();
+        private final CountDownLatch finishing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        boolean awaitFinishing() throws InterruptedException {
+            return finishing.await(10, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public Instant instant() {
+            if (armed.compareAndSet(true, false)) {
+                finishing.countDown();
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Instant.now();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
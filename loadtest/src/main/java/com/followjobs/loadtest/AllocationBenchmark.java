@@ -0,0 +1,229 @@
+package com.followjobs.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.followjobs.dto.JobApplicationDTO;
+import com.followjobs.dto.JobApplicationMapper;
+import com.followjobs.entity.JobApplication;
+import com.followjobs.exception.ErrorResponse;
+import com.followjobs.json.ErrorResponseSerializer;
+import com.followjobs.json.JobApplicationDTOSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures the bytes allocated per row (or per error body) by the response
+ * pipeline, before and after the hand-written serializers, without starting
+ * the application or a server.
+ *
+ * Every scenario runs its "before" variant (Lombok builder, Jackson bean
+ * serializer, HashMap error bodies) and its "after" variant ({@link JobApplicationMapper},
+ * {@link JobApplicationDTOSerializer}, {@link ErrorResponse}) on the same
+ * rows; allocation is read from the JVM's per-thread allocation counter.
+ * Before measuring, the JSON of both serialization paths is compared byte
+ * by byte, and the benchmark fails if it differs.
+ *
+ * <pre>
+ * --rows=10000            applications per list
+ * --seed=42
+ * --warmup=20             iterations before measuring
+ * --iterations=50         measured iterations
+ * --report-dir=target/allocation-report
+ * </pre>
+ */
+@Slf4j
+public class AllocationBenchmark {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of("rows", "seed", "warmup", "iterations", "report-dir");
+
+    private static final String NOT_FOUND_MESSAGE = "Job application not found with id: 12345";
+
+    /** One measured operation, run once per iteration */
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws IOException;
+    }
+
+    /** Bytes allocated by one unit of work (a row or an error body) before and after */
+    public record ScenarioResult(String name, String unit, double bytesBefore, double bytesAfter, double reductionPercent) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLine.parse(args, KNOWN_OPTIONS);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "20"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "50"));
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "target/allocation-report"));
+        Files.createDirectories(reportDir);
+
+        List<JobApplication> entities = entities(rows, seed);
+        List<JobApplicationDTO> dtos = entities.stream().map(JobApplicationMapper::toDTO).toList();
+
+        // Boot's auto-configured mapper: JavaTimeModule with ISO dates; the serializers are @JsonComponents
+        ObjectMapper defaultMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper optimizedMapper = defaultMapper.copy().registerModule(new SimpleModule()
+                .addSerializer(new JobApplicationDTOSerializer())
+                .addSerializer(new ErrorResponseSerializer()));
+
+        byte[] expected = defaultMapper.writeValueAsBytes(dtos);
+        byte[] actual = optimizedMapper.writeValueAsBytes(dtos);
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException("JobApplicationDTOSerializer output differs from the default serializer");
+        }
+
+        OutputStream out = new DiscardingOutputStream();
+        List<ScenarioResult> results = new ArrayList<>();
+
+        results.add(scenario("entity -> DTO mapping", "row", rows, warmup, iterations,
+                () -> consume(entities.stream().map(AllocationBenchmark::toDtoWithBuilder).toList()),
+                () -> consume(entities.stream().map(JobApplicationMapper::toDTO).toList())));
+
+        results.add(scenario("DTO list serialization", "row", rows, warmup, iterations,
+                () -> defaultMapper.writeValue(out, dtos),
+                () -> optimizedMapper.writeValue(out, dtos)));
+
+        results.add(scenario("404 error body", "response", 1, warmup * 1000, iterations * 1000,
+                () -> defaultMapper.writeValue(out, legacyErrorBody(HttpStatus.NOT_FOUND, "Not Found", NOT_FOUND_MESSAGE)),
+                () -> optimizedMapper.writeValue(out, ErrorResponse.of(HttpStatus.NOT_FOUND, "Not Found", NOT_FOUND_MESSAGE))));
+
+        results.add(scenario("500 error body", "response", 1, warmup * 1000, iterations * 1000,
+                () -> defaultMapper.writeValue(out, legacyErrorBody(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Internal Server Error", "An internal error occurred. Please try again later.")),
+                () -> optimizedMapper.writeValue(out, ErrorResponse.internalError())));
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("allocation.json").toFile(), results);
+
+        log.info("JSON of {} rows is identical on both serialization paths ({} bytes)", rows, actual.length);
+        for (ScenarioResult result : results) {
+            log.info(String.format("    %-24s %9.1f -> %9.1f bytes/%s  (-%.1f%%)", result.name(),
+                    result.bytesBefore(), result.bytesAfter(), result.unit(), result.reductionPercent()));
+        }
+        log.info("Report written to {}", reportDir.resolve("allocation.json").toAbsolutePath());
+    }
+
+    private static ScenarioResult scenario(String name, String unit, int unitsPerIteration, int warmup,
+            int iterations, Operation before, Operation after) throws IOException {
+
+        double bytesBefore = bytesPerUnit(before, unitsPerIteration, warmup, iterations);
+        double bytesAfter = bytesPerUnit(after, unitsPerIteration, warmup, iterations);
+        double reduction = bytesBefore > 0 ? (1 - bytesAfter / bytesBefore) * 100 : 0;
+        return new ScenarioResult(name, unit, round(bytesBefore), round(bytesAfter), round(reduction));
+    }
+
+    private static double bytesPerUnit(Operation operation, int unitsPerIteration, int warmup, int iterations)
+            throws IOException {
+
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+        long start = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        return (double) (allocatedBytes() - start) / ((long) iterations * unitsPerIteration);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    // ---------- Subjects ----------
+
+    /** Mapping as it was before: one builder per row */
+    private static JobApplicationDTO toDtoWithBuilder(JobApplication entity) {
+        return JobApplicationDTO.builder()
+                .id(entity.getId())
+                .applicationDate(entity.getApplicationDate())
+                .company(entity.getCompany())
+                .position(entity.getPosition())
+                .employmentType(entity.getEmploymentType())
+                .portal(entity.getPortal())
+                .status(entity.getStatus())
+                .responseDate(entity.getResponseDate())
+                .jobUrl(entity.getJobUrl())
+                .notes(entity.getNotes())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    /** Error body as GlobalExceptionHandler built it before ErrorResponse */
+    private static Map<String, Object> legacyErrorBody(HttpStatus status, String error, String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", error);
+        body.put("message", message);
+        return body;
+    }
+
+    private static volatile Object sink;
+
+    /** Stands in for the response stream; unlike nullOutputStream() it stays usable after Jackson closes it */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    /** Keeps the JIT from eliminating the mapped list */
+    private static void consume(Object value) {
+        sink = value;
+    }
+
+    // ---------- Dataset ----------
+
+    /** Rows shaped like the seeded dataset, with microsecond audit timestamps as stored by H2 */
+    private static List<JobApplication> entities(int rows, long seed) {
+        Random random = new Random(seed);
+        List<JobApplication> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime applicationDate = DatasetProfile.applicationDate(random);
+            LocalDateTime createdAt = applicationDate.plusNanos(random.nextInt(1_000_000) * 1_000L);
+            boolean answered = random.nextInt(3) == 0;
+            entities.add(JobApplication.builder()
+                    .id(i + 1L)
+                    .applicationDate(applicationDate)
+                    .company(DatasetProfile.company(DatasetProfile.companyIndex(random)))
+                    .position(DatasetProfile.position(random))
+                    .employmentType(DatasetProfile.employmentType(random))
+                    .portal(DatasetProfile.portal(random))
+                    .status(DatasetProfile.status(random))
+                    .responseDate(answered ? applicationDate.plusDays(1 + random.nextInt(30)) : null)
+                    .jobUrl(random.nextBoolean() ? "https://jobs.example.com/offer/" + random.nextInt(1_000_000) : null)
+                    .notes(random.nextInt(4) == 0 ? "Follow up with the recruiter" : null)
+                    .createdAt(createdAt)
+                    .updatedAt(answered ? createdAt.plusDays(2) : createdAt)
+                    .build());
+        }
+        return entities;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.followjobs.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backend running in a separate JVM, used where a fresh process matters
+ * (startup and first-request measurements).
+ */
+public class BackendProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private final Process process;
+    private final long launchedNanos;
+    private final String baseUrl;
+
+    private BackendProcess(Process process, long launchedNanos, int port) {
+        this.process = process;
+        this.launchedNanos = launchedNanos;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    /**
+     * Launches {@code java <jvmArgs> -jar <jar> <appArgs>} on a free port
+     * with the same Java runtime as this harness.
+     */
+    public static BackendProcess launch(Path jar, List<String> jvmArgs, List<String> appArgs, Path logFile)
+            throws IOException {
+
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.addAll(appArgs);
+        command.add("--server.port=" + port);
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()));
+
+        long launched = System.nanoTime();
+        return new BackendProcess(builder.start(), launched, port);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /** Operating system process ID of the backend JVM */
+    public long pid() {
+        return process.pid();
+    }
+
+    /** Milliseconds since the process was launched */
+    public double elapsedMillis() {
+        return (System.nanoTime() - launchedNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Polls {@code path} until it answers 200.
+     *
+     * @return milliseconds from launch until the first successful response
+     */
+    public double awaitSuccess(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Backend exited with code " + process.exitValue() + " during startup");
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return elapsedMillis();
+                }
+            } catch (IOException ex) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IOException("Backend did not answer " + path + " within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Sends one request and times it.
+     *
+     * @return latency in milliseconds
+     */
+    public double time(HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        if (response.statusCode() >= 400) {
+            throw new IOException(request.uri() + " answered " + response.statusCode());
+        }
+        return millis;
+    }
+
+    /** Graceful shutdown so file databases are closed cleanly */
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(60, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.followjobs.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a report against a baseline report of the same configuration.
+ * Latency percentiles, the error rate and the 404 rate may not grow and
+ * throughput may not drop by more than the allowed percentage. The rates
+ * keep fast failures (e.g. 500s or a lookup that misses every row) from
+ * passing as a speed-up.
+ */
+public class BaselineComparison {
+
+    /** Latency changes below this are treated as noise regardless of percentage */
+    private static final double MIN_LATENCY_DELTA_MS = 1.0;
+
+    /** Rate changes below this many percentage points are treated as noise, so a zero baseline is judged too */
+    private static final double MIN_RATE_DELTA_PERCENT = 0.2;
+
+    /** Endpoints with fewer samples are too noisy to judge */
+    private static final long MIN_REQUESTS = 50;
+
+    /** One metric that got worse than allowed */
+    public record Regression(String endpoint, String metric, double baseline, double current, double changePercent) {
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: %.2f -> %.2f (%+.1f%%)", endpoint, metric, baseline, current, changePercent);
+        }
+    }
+
+    private final double maxRegressionPercent;
+
+    public BaselineComparison(double maxRegressionPercent) {
+        this.maxRegressionPercent = maxRegressionPercent;
+    }
+
+    public List<Regression> compare(LoadReport baseline, LoadReport current) {
+        if (!baseline.config().equals(current.config())) {
+            throw new IllegalArgumentException(
+                    "Baseline was recorded with a different configuration: " + baseline.config());
+        }
+
+        Map<String, LoadReport.EndpointResult> baselineByEndpoint = baseline.endpoints().stream()
+                .collect(Collectors.toMap(LoadReport.EndpointResult::endpoint, Function.identity()));
+
+        List<Regression> regressions = new ArrayList<>();
+        for (LoadReport.EndpointResult now : current.endpoints()) {
+            LoadReport.EndpointResult before = baselineByEndpoint.get(now.endpoint());
+            if (before == null || before.requests() < MIN_REQUESTS || now.requests() < MIN_REQUESTS) {
+                continue;
+            }
+            checkLatency(regressions, before, now, "p50Ms", LoadReport.EndpointResult::p50Ms);
+            checkLatency(regressions, before, now, "p95Ms", LoadReport.EndpointResult::p95Ms);
+            checkLatency(regressions, before, now, "p99Ms", LoadReport.EndpointResult::p99Ms);
+
+            checkRate(regressions, before, now, "errorRatePercent", LoadReport.EndpointResult::errors);
+            checkRate(regressions, before, now, "notFoundRatePercent", LoadReport.EndpointResult::notFound);
+
+            double drop = percentChange(before.throughput(), now.throughput());
+            if (drop < -maxRegressionPercent) {
+                regressions.add(new Regression(now.endpoint(), "throughput", before.throughput(), now.throughput(), drop));
+            }
+        }
+        return regressions;
+    }
+
+    private void checkLatency(List<Regression> regressions, LoadReport.EndpointResult before,
+            LoadReport.EndpointResult now, String metric, ToDoubleFunction<LoadReport.EndpointResult> value) {
+
+        double previous = value.applyAsDouble(before);
+        double current = value.applyAsDouble(now);
+        double change = percentChange(previous, current);
+
+        if (change > maxRegressionPercent && current - previous >= MIN_LATENCY_DELTA_MS) {
+            regressions.add(new Regression(now.endpoint(), metric, previous, current, change));
+        }
+    }
+
+    /** Compares the share of requests (in percent) counted by {@code count} */
+    private void checkRate(List<Regression> regressions, LoadReport.EndpointResult before,
+            LoadReport.EndpointResult now, String metric, ToLongFunction<LoadReport.EndpointResult> count) {
+
+        double previous = count.applyAsLong(before) * 100.0 / before.requests();
+        double current = count.applyAsLong(now) * 100.0 / now.requests();
+
+        if (current > previous * (1 + maxRegressionPercent / 100) + MIN_RATE_DELTA_PERCENT) {
+            double change = previous > 0 ? percentChange(previous, current) : Double.POSITIVE_INFINITY;
+            regressions.add(new Regression(now.endpoint(), metric, previous, current, change));
+        }
+    }
+
+    private static double percentChange(double before, double after) {
+        if (before == 0) {
+            return 0.0;
+        }
+        return (after - before) / before * 100;
+    }
+}
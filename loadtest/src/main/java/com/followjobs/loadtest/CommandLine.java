@@ -0,0 +1,34 @@
+package com.followjobs.loadtest;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimal parser for --name=value arguments shared by the harness entry points.
+ */
+final class CommandLine {
+
+    private CommandLine() {
+    }
+
+    /** Parses the arguments, rejecting anything not listed in {@code knownOptions} */
+    static Map<String, String> parse(String[] args, Set<String> knownOptions) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Set<String> unknown = new HashSet<>(values.keySet());
+        unknown.removeAll(knownOptions);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + unknown);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,112 @@
+package com.followjobs.loadtest;
+
+import com.followjobs.entity.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Skewed value distributions shared by the seeder and the request generator,
+ * so requests hit the same hot and cold values that the data contains.
+ * All sampling goes through a caller-supplied {@link Random} to stay deterministic.
+ */
+public final class DatasetProfile {
+
+    /** Portals, most popular first */
+    static final String[] PORTALS = { "LinkedIn", "Indeed", "Computrabajo", "ChileTrabajos", "GetOnBoard" };
+    private static final double[] PORTAL_WEIGHTS = { 0.52, 0.22, 0.14, 0.09, 0.03 };
+
+    static final ApplicationStatus[] STATUSES = {
+            ApplicationStatus.SENT, ApplicationStatus.NO_RESPONSE, ApplicationStatus.REJECTED,
+            ApplicationStatus.INTERVIEW, ApplicationStatus.ACCEPTED };
+    private static final double[] STATUS_WEIGHTS = { 0.55, 0.22, 0.15, 0.06, 0.02 };
+
+    private static final String[] COMPANY_PREFIXES = {
+            "Acme", "Globant", "Andes", "Pacifico", "Nova", "Cobre", "Austral", "Vertex", "Lumen", "Quantum",
+            "Condor", "Atlas", "Bosque", "Orion", "Delta", "Sierra", "Patagonia", "Iris", "Nimbus", "Kappa" };
+    private static final String[] COMPANY_SUFFIXES = {
+            "Labs", "Tech", "Software", "Digital", "Group", "Systems", "Data", "Cloud", "Solutions", "Consulting" };
+
+    private static final String[] POSITIONS = {
+            "Software Engineer", "Backend Developer", "Java Developer", "Frontend Developer",
+            "Full Stack Developer", "Data Engineer", "Data Analyst", "DevOps Engineer", "QA Engineer",
+            "Mobile Developer", "Tech Lead", "Site Reliability Engineer", "Product Engineer",
+            "Machine Learning Engineer", "Cloud Architect", "Support Engineer" };
+
+    private static final String[] EMPLOYMENT_TYPES = { "Remote", "Hybrid", "On-site", "Full-time", "Part-time" };
+
+    /** Companies in the long tail; popularity follows a Zipf law */
+    static final int COMPANY_COUNT = 20_000;
+    private static final double ZIPF_EXPONENT = 0.9;
+    private static final double[] COMPANY_CUMULATIVE = zipfCumulative(COMPANY_COUNT, ZIPF_EXPONENT);
+
+    /** Share of rows with the "No encontrado" placeholders removed by /clean */
+    static final double INVALID_ROW_RATIO = 0.005;
+
+    /** Applications span two years before a fixed date, denser towards it */
+    static final int HISTORY_DAYS = 730;
+    static final LocalDateTime REFERENCE_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private DatasetProfile() {
+    }
+
+    static String portal(Random random) {
+        return PORTALS[pick(random, PORTAL_WEIGHTS)];
+    }
+
+    static ApplicationStatus status(Random random) {
+        return STATUSES[pick(random, STATUS_WEIGHTS)];
+    }
+
+    static String position(Random random) {
+        return POSITIONS[random.nextInt(POSITIONS.length)];
+    }
+
+    static String employmentType(Random random) {
+        return random.nextInt(10) < 3 ? null : EMPLOYMENT_TYPES[random.nextInt(EMPLOYMENT_TYPES.length)];
+    }
+
+    /** Zipf-distributed company index: a few companies receive most applications */
+    static int companyIndex(Random random) {
+        int index = Arrays.binarySearch(COMPANY_CUMULATIVE, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, COMPANY_COUNT - 1);
+    }
+
+    static String company(int index) {
+        return COMPANY_PREFIXES[index % COMPANY_PREFIXES.length] + " "
+                + COMPANY_SUFFIXES[(index / COMPANY_PREFIXES.length) % COMPANY_SUFFIXES.length] + " "
+                + index;
+    }
+
+    /** Application date skewed towards recent days (quadratic density) */
+    static LocalDateTime applicationDate(Random random) {
+        double r = random.nextDouble();
+        long minutesAgo = (long) (r * r * HISTORY_DAYS * 24 * 60);
+        return REFERENCE_DATE.minusMinutes(minutesAgo);
+    }
+
+    private static int pick(Random random, double[] weights) {
+        double r = random.nextDouble();
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    static double[] zipfCumulative(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+}
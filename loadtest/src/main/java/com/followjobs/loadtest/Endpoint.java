@@ -0,0 +1,115 @@
+package com.followjobs.loadtest;
+
+import lombok.Getter;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+/**
+ * Every JobApplicationController endpoint with its default share of the traffic mix.
+ * Weights are relative; the unpaginated list endpoints return large parts of the
+ * dataset, so they are rare by default.
+ */
+@Getter
+public enum Endpoint {
+
+    LIST_ALL("GET /api/applications", 1),
+    GET_BY_ID("GET /api/applications/{id}", 400),
+    BY_PORTAL("GET /api/applications/portal/{portal}", 4),
+    BY_STATUS("GET /api/applications/status/{status}", 5),
+    SEARCH("GET /api/applications/search", 200),
+    CREATE("POST /api/applications", 120),
+    UPDATE("PUT /api/applications/{id}", 80),
+    UPDATE_STATUS("PATCH /api/applications/{id}/status", 120),
+    DELETE("DELETE /api/applications/{id}", 60),
+    CLEAN("POST /api/applications/clean", 10);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    static final String TENANT_HEADER = "X-Tenant-ID";
+
+    private final String label;
+    private final int defaultWeight;
+
+    Endpoint(String label, int defaultWeight) {
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Builds the next request for this endpoint from the client's own random stream.
+     * Requests are sent as the tenant owning the chosen ID, so tenants receive
+     * traffic in proportion to their data; new rows go to that same tenant, and
+     * the caller records their owner under the ID the server returns.
+     */
+    HttpRequest request(String baseUrl, Random random, long maxId, LongFunction<String> ownerOf) {
+        String api = baseUrl + "/api/applications";
+        long id = 1 + (long) (random.nextDouble() * Math.max(1, maxId));
+        String tenant = ownerOf.apply(id);
+
+        return switch (this) {
+            case LIST_ALL -> get(api, tenant);
+            case GET_BY_ID -> get(api + "/" + id, tenant);
+            case BY_PORTAL -> get(api + "/portal/" + DatasetProfile.PORTALS[random.nextInt(DatasetProfile.PORTALS.length)], tenant);
+            case BY_STATUS -> get(api + "/status/" + DatasetProfile.STATUSES[random.nextInt(DatasetProfile.STATUSES.length)], tenant);
+            case SEARCH -> get(api + "/search?company="
+                    + URLEncoder.encode(DatasetProfile.company(DatasetProfile.companyIndex(random)), StandardCharsets.UTF_8), tenant);
+            case CREATE -> json(api, tenant, "POST", applicationJson(random));
+            case UPDATE -> json(api + "/" + id, tenant, "PUT", applicationJson(random));
+            case UPDATE_STATUS -> json(api + "/" + id + "/status", tenant, "PATCH", """
+                    {"status":"%s","notes":"Load test update"}""".formatted(DatasetProfile.status(random)));
+            case DELETE -> builder(api + "/" + id, tenant).DELETE().build();
+            case CLEAN -> builder(api + "/clean", tenant).POST(HttpRequest.BodyPublishers.noBody()).build();
+        };
+    }
+
+    /** Endpoints addressing a random existing ID, which may have been deleted meanwhile */
+    boolean isIdBased() {
+        return this == GET_BY_ID || this == UPDATE || this == UPDATE_STATUS || this == DELETE;
+    }
+
+    /** 404 from an ID-based endpoint is an expected miss, counted separately from errors */
+    boolean isExpectedNotFound(int statusCode) {
+        return statusCode == 404 && isIdBased();
+    }
+
+    /** Tenant header the request was sent with */
+    static String tenantOf(HttpRequest request) {
+        return request.headers().firstValue(TENANT_HEADER).orElseThrow();
+    }
+
+    boolean isSuccess(int statusCode) {
+        return statusCode < 400;
+    }
+
+    private static String applicationJson(Random random) {
+        return """
+                {"company":"%s","position":"%s","portal":"%s","status":"SENT","employmentType":"Remote"}"""
+                .formatted(
+                        DatasetProfile.company(DatasetProfile.companyIndex(random)),
+                        DatasetProfile.position(random),
+                        DatasetProfile.portal(random));
+    }
+
+    private static HttpRequest get(String url, String tenant) {
+        return builder(url, tenant).GET().build();
+    }
+
+    private static HttpRequest json(String url, String tenant, String method, String body) {
+        return builder(url, tenant)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest.Builder builder(String url, String tenant) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header(TENANT_HEADER, tenant);
+    }
+}
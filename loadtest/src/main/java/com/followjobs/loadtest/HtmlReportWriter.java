@@ -0,0 +1,87 @@
+package com.followjobs.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Renders a load report as a single self-contained HTML page.
+ */
+public class HtmlReportWriter {
+
+    public void write(LoadReport report, List<BaselineComparison.Regression> regressions, Path file)
+            throws IOException {
+
+        StringBuilder html = new StringBuilder();
+        html.append("""
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="UTF-8">
+                <title>FollowJobs load test</title>
+                <style>
+                  body { font-family: sans-serif; margin: 2em; }
+                  table { border-collapse: collapse; }
+                  th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                  th:first-child, td:first-child { text-align: left; }
+                  .fail { color: #b00020; }
+                  .ok { color: #1b5e20; }
+                </style>
+                </head>
+                <body>
+                <h1>FollowJobs load test</h1>
+                """);
+
+        LoadReport.RunConfig config = report.config();
+        html.append("<p>").append(escape(report.generatedAt())).append("<br>")
+                .append(config.rows()).append(" rows, seed ").append(config.seed()).append(", ")
+                .append(config.tenants()).append(" tenants, ")
+                .append(config.clients()).append(" clients, ")
+                .append(config.warmupSeconds()).append("s warm-up, ")
+                .append(config.durationSeconds()).append("s measured</p>\n");
+
+        html.append("<p><strong>").append(report.totalRequests()).append("</strong> requests, <strong>")
+                .append(report.throughput()).append("</strong> req/s, ")
+                .append(report.totalErrors()).append(" errors</p>\n");
+
+        html.append("<table>\n<tr><th>Endpoint</th><th>Requests</th><th>Errors</th><th>404</th><th>req/s</th>")
+                .append("<th>mean ms</th><th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>max ms</th></tr>\n");
+        for (LoadReport.EndpointResult endpoint : report.endpoints()) {
+            html.append("<tr><td>").append(escape(endpoint.label())).append("</td>")
+                    .append(cell(endpoint.requests()))
+                    .append(cell(endpoint.errors()))
+                    .append(cell(endpoint.notFound()))
+                    .append(cell(endpoint.throughput()))
+                    .append(cell(endpoint.meanMs()))
+                    .append(cell(endpoint.p50Ms()))
+                    .append(cell(endpoint.p95Ms()))
+                    .append(cell(endpoint.p99Ms()))
+                    .append(cell(endpoint.maxMs()))
+                    .append("</tr>\n");
+        }
+        html.append("</table>\n");
+
+        if (regressions != null) {
+            if (regressions.isEmpty()) {
+                html.append("<h2 class=\"ok\">No regressions against baseline</h2>\n");
+            } else {
+                html.append("<h2 class=\"fail\">Regressions against baseline</h2>\n<ul>\n");
+                regressions.forEach(regression -> html.append("<li class=\"fail\">")
+                        .append(escape(regression.toString())).append("</li>\n"));
+                html.append("</ul>\n");
+            }
+        }
+
+        html.append("</body>\n</html>\n");
+        Files.writeString(file, html);
+    }
+
+    private static String cell(Object value) {
+        return "<td>" + value + "</td>";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
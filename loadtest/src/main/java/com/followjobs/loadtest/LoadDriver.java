@@ -0,0 +1,186 @@
+package com.followjobs.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives a weighted endpoint mix from many concurrent closed-loop clients.
+ * Each client owns a Random derived from the seed, so the request sequence
+ * per client is reproducible between runs.
+ */
+@Slf4j
+public class LoadDriver {
+
+    /** Latencies are recorded in microseconds, up to one hour */
+    private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    /** The serializer writes the id first in a created application */
+    private static final Pattern CREATED_ID = Pattern.compile("\"id\":(\\d+)");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String baseUrl;
+    private final int clients;
+    private final long seed;
+    private final AtomicLong maxId;
+    private final TenantDistribution tenants;
+    /** Owners of the rows created during this driver's phases, keyed by the ID the server returned */
+    private final Map<Long, String> createdTenants = new ConcurrentHashMap<>();
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    public LoadDriver(String baseUrl, Map<Endpoint, Integer> mix, int clients, long seed, long maxId,
+            TenantDistribution tenants) {
+        this.baseUrl = baseUrl;
+        this.clients = clients;
+        this.seed = seed;
+        this.maxId = new AtomicLong(maxId);
+        this.tenants = tenants;
+
+        List<Endpoint> active = mix.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (active.isEmpty()) {
+            throw new IllegalArgumentException("The endpoint mix has no positive weights");
+        }
+        this.endpoints = active.toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs all clients for the given duration.
+     *
+     * @param phase distinguishes warm-up from measurement in the per-client seeds
+     */
+    public PhaseResult run(String phase, Duration duration) throws InterruptedException {
+        Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : endpoints) {
+            recorders.put(endpoint, new EndpointRecorder());
+        }
+
+        log.info("{}: {} clients for {}s", phase, clients, duration.toSeconds());
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int client = 0; client < clients; client++) {
+            Random random = new Random(seed * 31 + phase.hashCode() * 1_000_003L + client);
+            tasks.add(() -> runClient(random, deadline, recorders));
+        }
+        tasks.forEach(executor::execute);
+
+        executor.shutdown();
+        long timeoutSeconds = duration.toSeconds() + 120;
+        if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            throw new IllegalStateException(phase + ": clients still running " + timeoutSeconds + "s after the start");
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return new PhaseResult(elapsedSeconds, recorders);
+    }
+
+    private void runClient(Random random, long deadline, Map<Endpoint, EndpointRecorder> recorders) {
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = next(random);
+            EndpointRecorder recorder = recorders.get(endpoint);
+
+            try {
+                HttpRequest request = endpoint.request(baseUrl, random, maxId.get(), this::ownerOf);
+                // Only a created row's body is read, for its ID
+                HttpResponse.BodyHandler<String> bodyHandler = endpoint == Endpoint.CREATE
+                        ? HttpResponse.BodyHandlers.ofString()
+                        : HttpResponse.BodyHandlers.replacing(null);
+
+                long sent = System.nanoTime();
+                HttpResponse<String> response = httpClient.send(request, bodyHandler);
+                recorder.latencies.recordValue(Math.min((System.nanoTime() - sent) / 1_000, MAX_LATENCY_MICROS));
+
+                if (endpoint.isExpectedNotFound(response.statusCode())) {
+                    recorder.notFound.increment();
+                } else if (!endpoint.isSuccess(response.statusCode())) {
+                    recorder.errors.increment();
+                } else if (endpoint == Endpoint.CREATE) {
+                    recordCreated(Endpoint.tenantOf(request), response.body());
+                }
+            } catch (IOException ex) {
+                recorder.errors.increment();
+            } catch (RuntimeException ex) {
+                // A malformed response must not end the client; it counts against the error rate
+                log.debug("{} failed", endpoint.getLabel(), ex);
+                recorder.errors.increment();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** Makes a new row a target for later requests, sent as the tenant that created it */
+    private void recordCreated(String tenant, String body) {
+        Matcher matcher = CREATED_ID.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Created application without an id: " + body);
+        }
+        long id = Long.parseLong(matcher.group(1));
+        createdTenants.put(id, tenant);
+        maxId.accumulateAndGet(id, Math::max);
+    }
+
+    /** Seeded rows follow the tenant distribution; rows created by this driver keep the tenant that created them */
+    private String ownerOf(long id) {
+        String tenant = createdTenants.get(id);
+        return tenant != null ? tenant : tenants.tenantOf(id);
+    }
+
+    private Endpoint next(Random random) {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    /** Latency histogram, error count and expected-404 count of one endpoint */
+    public static final class EndpointRecorder {
+        final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder notFound = new LongAdder();
+    }
+
+    /** Everything recorded during one phase */
+    public record PhaseResult(double elapsedSeconds, Map<Endpoint, EndpointRecorder> recorders) {
+    }
+}
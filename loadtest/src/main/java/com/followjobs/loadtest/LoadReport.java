@@ -0,0 +1,102 @@
+package com.followjobs.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a measured run, written as report.json and compared against baselines.
+ */
+public record LoadReport(
+        String generatedAt,
+        RunConfig config,
+        double elapsedSeconds,
+        long totalRequests,
+        long totalErrors,
+        double throughput,
+        List<EndpointResult> endpoints) {
+
+    /** Parameters that must match for two reports to be comparable */
+    public record RunConfig(
+            int rows,
+            long seed,
+            int tenants,
+            int clients,
+            long warmupSeconds,
+            long durationSeconds,
+            Map<String, Integer> mix) {
+    }
+
+    /**
+     * Throughput and latency percentiles (milliseconds) of one endpoint.
+     *
+     * @param notFound 404s of ID-based endpoints (rows deleted meanwhile), not counted as errors
+     */
+    public record EndpointResult(
+            String endpoint,
+            String label,
+            long requests,
+            long errors,
+            long notFound,
+            double throughput,
+            double meanMs,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs) {
+    }
+
+    public static LoadReport from(LoadTestOptions options, LoadDriver.PhaseResult result) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((endpoint, weight) -> mix.put(endpoint.name(), weight));
+
+        RunConfig config = new RunConfig(options.rows(), options.seed(), options.tenants(), options.clients(),
+                options.warmup().toSeconds(), options.duration().toSeconds(), mix);
+
+        List<EndpointResult> endpoints = new ArrayList<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        for (var entry : result.recorders().entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            long requests = latencies.getTotalCount();
+            long errors = entry.getValue().errors.sum();
+            totalRequests += requests;
+            totalErrors += errors;
+
+            endpoints.add(new EndpointResult(
+                    entry.getKey().name(),
+                    entry.getKey().getLabel(),
+                    requests,
+                    errors,
+                    entry.getValue().notFound.sum(),
+                    round(requests / result.elapsedSeconds()),
+                    millis(latencies.getMean()),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(95)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getMaxValue())));
+        }
+
+        return new LoadReport(
+                OffsetDateTime.now().toString(),
+                config,
+                round(result.elapsedSeconds()),
+                totalRequests,
+                totalErrors,
+                round(totalRequests / result.elapsedSeconds()),
+                endpoints);
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,113 @@
+package com.followjobs.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.followjobs.FollowJobsApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Entry point of the load test.
+ *
+ * By default it boots the backend in this JVM on a random port, seeds its
+ * database and drives the endpoint mix against it. Reports are written to
+ * report.json and report.html; with --baseline the run fails (exit code 1)
+ * when any endpoint's latency, throughput, error rate or 404 rate regresses
+ * beyond --max-regression percent.
+ *
+ * See {@link LoadTestOptions} for all options.
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = null;
+
+        try {
+            String baseUrl = options.baseUrl();
+            DataSource dataSource = null;
+
+            if (baseUrl == null) {
+                context = startBackend();
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                baseUrl = "http://localhost:" + port;
+                dataSource = context.getBean(DataSource.class);
+            } else if (options.jdbcUrl() != null) {
+                dataSource = new DriverManagerDataSource(options.jdbcUrl(), "sa", "");
+            }
+
+            TenantDistribution tenants = new TenantDistribution(options.tenants());
+            long maxId = options.rows();
+            if (dataSource != null) {
+                DatasetSeeder seeder = new DatasetSeeder(dataSource);
+                maxId = options.rows() > 0 ? seeder.seed(options.rows(), options.seed(), tenants) : seeder.maxId();
+            }
+
+            LoadDriver driver = new LoadDriver(baseUrl, options.mix(), options.clients(), options.seed(), maxId,
+                    tenants);
+            if (!options.warmup().isZero()) {
+                driver.run("warm-up", options.warmup());
+            }
+            LoadReport report = LoadReport.from(options, driver.run("measurement", options.duration()));
+
+            List<BaselineComparison.Regression> regressions = null;
+            ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            if (options.baseline() != null) {
+                LoadReport baseline = mapper.readValue(options.baseline().toFile(), LoadReport.class);
+                regressions = new BaselineComparison(options.maxRegressionPercent()).compare(baseline, report);
+            }
+
+            Files.createDirectories(options.reportDir());
+            mapper.writeValue(options.reportDir().resolve("report.json").toFile(), report);
+            new HtmlReportWriter().write(report, regressions, options.reportDir().resolve("report.html"));
+            printSummary(report, regressions, options.reportDir());
+
+            if (regressions != null && !regressions.isEmpty()) {
+                System.exit(1);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /** Starts the backend on a random port with a fresh in-memory database */
+    private static ConfigurableApplicationContext startBackend() {
+        // Passed as arguments so they take precedence over application.yml
+        return new SpringApplicationBuilder(FollowJobsApplication.class).run(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    private static void printSummary(LoadReport report, List<BaselineComparison.Regression> regressions, Path dir) {
+        log.info(String.format("%-40s %9s %7s %7s %9s %9s %9s %9s %9s",
+                "Endpoint", "Requests", "Errors", "404", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (LoadReport.EndpointResult endpoint : report.endpoints()) {
+            log.info(String.format("%-40s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f",
+                    endpoint.label(), endpoint.requests(), endpoint.errors(), endpoint.notFound(), endpoint.throughput(),
+                    endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms(), endpoint.maxMs()));
+        }
+        log.info("Total: {} requests, {} req/s, {} errors", report.totalRequests(), report.throughput(),
+                report.totalErrors());
+
+        if (regressions != null) {
+            if (regressions.isEmpty()) {
+                log.info("No regressions against baseline");
+            } else {
+                regressions.forEach(regression -> log.error("REGRESSION {}", regression));
+            }
+        }
+        log.info("Reports written to {}", dir.toAbsolutePath());
+    }
+}
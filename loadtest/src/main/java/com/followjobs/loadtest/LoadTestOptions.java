@@ -0,0 +1,92 @@
+package com.followjobs.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options of the load test.
+ * Every option has a default so a bare run is reproducible.
+ *
+ * <pre>
+ * --rows=1000000          applications seeded before the run
+ * --seed=42               seed for data and request generation
+ * --tenants=100           tenants owning the rows (Zipf-sized, see {@link TenantDistribution})
+ * --clients=32            concurrent HTTP clients
+ * --warmup=15s            warm-up phase, not measured
+ * --duration=60s          measured phase
+ * --mix=GET_BY_ID=400,... endpoint weights (see {@link Endpoint})
+ * --report-dir=target/loadtest-report
+ * --baseline=path.json    compare against a previous report.json
+ * --max-regression=10     allowed regression in percent
+ * --base-url=http://...   drive an already running server instead of starting one
+ * --jdbc-url=jdbc:h2:...  seed that server's database (with --base-url)
+ * </pre>
+ */
+public record LoadTestOptions(
+        int rows,
+        long seed,
+        int tenants,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        Path reportDir,
+        Path baseline,
+        double maxRegressionPercent,
+        String baseUrl,
+        String jdbcUrl) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "rows", "seed", "tenants", "clients", "warmup", "duration", "mix", "report-dir",
+            "baseline", "max-regression", "base-url", "jdbc-url");
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = CommandLine.parse(args, KNOWN_OPTIONS);
+
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rows", "1000000")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("tenants", "100")),
+                Integer.parseInt(values.getOrDefault("clients", "32")),
+                parseDuration(values.getOrDefault("warmup", "15s")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseMix(values.get("mix")),
+                Path.of(values.getOrDefault("report-dir", "target/loadtest-report")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("max-regression", "10")),
+                values.get("base-url"),
+                values.get("jdbc-url"));
+    }
+
+    /** Accepts plain seconds ("90") or a unit suffix ("90s", "2m") */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /** Overrides the default weights, e.g. "LIST_ALL=0,SEARCH=300" */
+    static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.put(endpoint, endpoint.getDefaultWeight());
+        }
+        if (value != null && !value.isBlank()) {
+            for (String entry : value.split(",")) {
+                String[] parts = entry.split("=");
+                mix.put(Endpoint.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        }
+        return mix;
+    }
+}
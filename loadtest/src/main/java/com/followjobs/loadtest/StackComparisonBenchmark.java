@@ -0,0 +1,221 @@
+package com.followjobs.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the servlet stack (MVC + JPA on Tomcat) with the reactive profile
+ * (WebFlux + R2DBC on Netty) at increasing numbers of concurrent connections,
+ * both against the same pre-seeded file database.
+ *
+ * For every concurrency level the report holds throughput, latency
+ * percentiles, the peak number of live threads and the resident memory added
+ * per connection: (peak RSS under load - idle RSS) / connections. The heap is
+ * fixed and pre-touched, so RSS growth is thread stacks, buffers and other
+ * native memory rather than heap sizing decisions. Process figures come from
+ * /proc, so the benchmark needs Linux.
+ *
+ * <pre>
+ * --backend-target=../backend/target
+ * --rows=200000                 applications seeded into the file database
+ * --seed=42
+ * --tenants=100
+ * --concurrency=64,512,2048     concurrent closed-loop clients per level
+ * --warmup=15s                  per stack, at the lowest level
+ * --duration=30s                per level
+ * --heap=512m
+ * --mix=GET_BY_ID=400,...       endpoint weights (unpaginated lists and cleanup are off by default)
+ * --data-dir=target/stack-bench/data
+ * --report-dir=target/stack-report
+ * </pre>
+ */
+@Slf4j
+public class StackComparisonBenchmark {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of("backend-target", "rows", "seed", "tenants", "concurrency",
+            "warmup", "duration", "heap", "mix", "data-dir", "report-dir");
+
+    private static final String READINESS_PATH = "/actuator/health/readiness";
+    private static final String EXEC_JAR = "followjobs-backend-1.0.0-exec.jar";
+
+    /** Full-table lists would dominate both stacks equally; the comparison is about connection handling */
+    private static final String DEFAULT_MIX = "LIST_ALL=0,BY_PORTAL=0,BY_STATUS=0,CLEAN=0";
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 200;
+
+    /** One web stack, selected by Spring profiles */
+    public record Stack(String name, String profiles) {
+    }
+
+    /** Results of one stack at one concurrency level */
+    public record LevelResult(int connections, long requests, long errors, double requestsPerSecond,
+            double p50Ms, double p99Ms, int peakThreads, double peakRssMb, double rssKbPerConnection) {
+    }
+
+    /** Results of one stack across all levels */
+    public record StackResult(String name, double idleRssMb, int idleThreads, List<LevelResult> levels) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLine.parse(args, KNOWN_OPTIONS);
+        Path target = Path.of(options.getOrDefault("backend-target", "../backend/target")).toAbsolutePath();
+        int rows = Integer.parseInt(options.getOrDefault("rows", "200000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        TenantDistribution tenants = new TenantDistribution(Integer.parseInt(options.getOrDefault("tenants", "100")));
+        int[] levels = Arrays.stream(options.getOrDefault("concurrency", "64,512,2048").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .sorted()
+                .toArray();
+        Duration warmup = LoadTestOptions.parseDuration(options.getOrDefault("warmup", "15s"));
+        Duration duration = LoadTestOptions.parseDuration(options.getOrDefault("duration", "30s"));
+        String heap = options.getOrDefault("heap", "512m");
+        Map<Endpoint, Integer> mix = LoadTestOptions.parseMix(
+                options.containsKey("mix") ? DEFAULT_MIX + "," + options.get("mix") : DEFAULT_MIX);
+        Path dataDir = Path.of(options.getOrDefault("data-dir", "target/stack-bench/data")).toAbsolutePath();
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "target/stack-report"));
+        Files.createDirectories(reportDir);
+
+        Path execJar = target.resolve(EXEC_JAR);
+        List<String> jvmArgs = List.of("-Xms" + heap, "-Xmx" + heap, "-XX:+AlwaysPreTouch");
+        Path logFile = reportDir.resolve("backend.log");
+
+        long maxId = prepareDatabase(execJar, dataDir, rows, seed, tenants, logFile);
+
+        List<StackResult> results = new ArrayList<>();
+        for (Stack stack : List.of(new Stack("MVC + JPA (Tomcat)", "prod"),
+                new Stack("WebFlux + R2DBC (Netty)", "prod,reactive"))) {
+
+            List<String> appArgs = List.of("--spring.profiles.active=" + stack.profiles(),
+                    "--followjobs.data-dir=" + dataDir, "--followjobs.warmup.enabled=false");
+            try (BackendProcess backend = BackendProcess.launch(execJar, jvmArgs, appArgs, logFile)) {
+                backend.awaitSuccess(READINESS_PATH);
+                results.add(measure(stack, backend, mix, levels, warmup, duration, seed, maxId, tenants));
+            }
+        }
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("stacks.json").toFile(), results);
+        printSummary(results, reportDir);
+    }
+
+    /** Lets Flyway create the schema in a fresh file database, then bulk-loads it */
+    private static long prepareDatabase(Path jar, Path dataDir, int rows, long seed, TenantDistribution tenants,
+            Path logFile) throws Exception {
+
+        FileSystemUtils.deleteRecursively(dataDir);
+        try (BackendProcess backend = BackendProcess.launch(jar, List.of(),
+                List.of("--spring.profiles.active=prod", "--followjobs.data-dir=" + dataDir,
+                        "--followjobs.warmup.enabled=false"), logFile)) {
+            backend.awaitSuccess(READINESS_PATH);
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:file:" + dataDir.resolve("followjobs"), "sa", "");
+        return new DatasetSeeder(dataSource).seed(rows, seed, tenants);
+    }
+
+    private static StackResult measure(Stack stack, BackendProcess backend, Map<Endpoint, Integer> mix,
+            int[] levels, Duration warmup, Duration duration, long seed, long maxId, TenantDistribution tenants)
+            throws Exception {
+
+        // Idle figures are taken after a short single-client warm-up so both stacks have loaded their classes
+        new LoadDriver(backend.getBaseUrl(), mix, 1, seed, maxId, tenants).run(stack.name() + " idle warm-up", Duration.ofSeconds(5));
+        long idleRss = residentKb(backend.pid());
+        int idleThreads = threads(backend.pid());
+
+        new LoadDriver(backend.getBaseUrl(), mix, levels[0], seed, maxId, tenants).run(stack.name() + " warm-up", warmup);
+
+        List<LevelResult> results = new ArrayList<>();
+        for (int connections : levels) {
+            LoadDriver driver = new LoadDriver(backend.getBaseUrl(), mix, connections, seed, maxId, tenants);
+
+            AtomicLong peakRss = new AtomicLong();
+            AtomicLong peakThreads = new AtomicLong();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> {
+                try {
+                    peakRss.accumulateAndGet(residentKb(backend.pid()), Math::max);
+                    peakThreads.accumulateAndGet(threads(backend.pid()), Math::max);
+                } catch (IOException ex) {
+                    // The process is gone; the load driver reports the failures
+                }
+            }, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+            LoadDriver.PhaseResult phase;
+            try {
+                phase = driver.run(stack.name() + " @ " + connections, duration);
+            } finally {
+                sampler.shutdownNow();
+            }
+
+            Histogram latencies = new Histogram(3);
+            long errors = 0;
+            for (LoadDriver.EndpointRecorder recorder : phase.recorders().values()) {
+                latencies.add(recorder.latencies);
+                errors += recorder.errors.sum();
+            }
+            results.add(new LevelResult(
+                    connections,
+                    latencies.getTotalCount(),
+                    errors,
+                    round(latencies.getTotalCount() / phase.elapsedSeconds()),
+                    round(latencies.getValueAtPercentile(50) / 1000.0),
+                    round(latencies.getValueAtPercentile(99) / 1000.0),
+                    (int) peakThreads.get(),
+                    round(peakRss.get() / 1024.0),
+                    round((double) Math.max(0, peakRss.get() - idleRss) / connections)));
+        }
+        return new StackResult(stack.name(), round(idleRss / 1024.0), idleThreads, results);
+    }
+
+    private static long residentKb(long pid) throws IOException {
+        return Long.parseLong(procStatus(pid, "VmRSS:").replace("kB", "").trim());
+    }
+
+    private static int threads(long pid) throws IOException {
+        return Integer.parseInt(procStatus(pid, "Threads:").trim());
+    }
+
+    private static String procStatus(long pid, String field) throws IOException {
+        return Files.readAllLines(Path.of("/proc", Long.toString(pid), "status")).stream()
+                .filter(line -> line.startsWith(field))
+                .map(line -> line.substring(field.length()))
+                .findFirst()
+                .orElseThrow(() -> new IOException("No " + field + " in /proc/" + pid + "/status"));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    private static void printSummary(List<StackResult> results, Path reportDir) {
+        for (StackResult result : results) {
+            log.info("{}: idle {} MB RSS, {} threads", result.name(), result.idleRssMb(), result.idleThreads());
+            for (LevelResult level : result.levels()) {
+                log.info(String.format(
+                        "    %5d connections  %9.1f req/s  p50 %8.1f ms  p99 %8.1f ms  %5d threads  %7.1f MB RSS  %7.1f KB/connection  %d errors",
+                        level.connections(), level.requestsPerSecond(), level.p50Ms(), level.p99Ms(),
+                        level.peakThreads(), level.peakRssMb(), level.rssKbPerConnection(), level.errors()));
+            }
+        }
+        log.info("Report written to {}", reportDir.resolve("stacks.json").toAbsolutePath());
+    }
+}
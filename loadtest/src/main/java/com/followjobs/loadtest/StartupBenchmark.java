@@ -0,0 +1,218 @@
+package com.followjobs.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.FileSystemUtils;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures startup and first-request latency of fresh backend processes
+ * running the prod profile against a pre-seeded file database.
+ *
+ * Each configuration is launched --runs times; the report holds medians of
+ * the time until readiness, the time until the first API request succeeded
+ * (launch to response, after readiness) and the first (cold) and second
+ * (repeat) latency of a few representative requests.
+ *
+ * The AOT and AOT + CDS configurations are measured when the backend was
+ * built with -Pfast-start (detected by target/followjobs.jsa).
+ *
+ * <pre>
+ * --backend-target=../backend/target
+ * --rows=200000       applications seeded into the file database
+ * --seed=42
+ * --tenants=100
+ * --runs=3
+ * --data-dir=target/startup-bench/data
+ * --report-dir=target/startup-report
+ * </pre>
+ */
+@Slf4j
+public class StartupBenchmark {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of("backend-target", "rows", "seed", "tenants", "runs", "data-dir", "report-dir");
+
+    private static final String READINESS_PATH = "/actuator/health/readiness";
+
+    private static final String EXEC_JAR = "followjobs-backend-1.0.0-exec.jar";
+    private static final String PLAIN_JAR = "followjobs-backend-1.0.0.jar";
+    private static final String CDS_ARCHIVE = "followjobs.jsa";
+
+    /** One way of starting the backend */
+    public record Configuration(String name, Path jar, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    /** Median results of one configuration */
+    public record ConfigurationResult(String name, int runs, double readyMs, double firstSuccessMs,
+            List<ProbeResult> probes) {
+    }
+
+    /** Latency of the first request to an endpoint and of the same request repeated */
+    public record ProbeResult(String request, double firstMs, double repeatMs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CommandLine.parse(args, KNOWN_OPTIONS);
+        Path target = Path.of(options.getOrDefault("backend-target", "../backend/target")).toAbsolutePath();
+        int rows = Integer.parseInt(options.getOrDefault("rows", "200000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        TenantDistribution tenants = new TenantDistribution(Integer.parseInt(options.getOrDefault("tenants", "100")));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        Path dataDir = Path.of(options.getOrDefault("data-dir", "target/startup-bench/data")).toAbsolutePath();
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "target/startup-report"));
+        Files.createDirectories(reportDir);
+
+        Path execJar = target.resolve(EXEC_JAR);
+        List<String> prod = List.of("--spring.profiles.active=prod", "--followjobs.data-dir=" + dataDir);
+        List<String> fastStart = List.of("--spring.profiles.active=prod,fast-start", "--followjobs.data-dir=" + dataDir);
+
+        List<Configuration> configurations = new ArrayList<>(List.of(
+                new Configuration("prod, warm-up", execJar, List.of(), prod),
+                new Configuration("prod, no warm-up", execJar, List.of(),
+                        concat(prod, "--followjobs.warmup.enabled=false")),
+                new Configuration("prod + fast-start (lazy, no springdoc)", execJar, List.of(), fastStart)));
+
+        // AOT runs from the plain jar with target/lib: the generated classes fail package-private
+        // access checks when loaded from the nested exec jar
+        Path archive = target.resolve(CDS_ARCHIVE);
+        if (Files.exists(archive)) {
+            configurations.add(new Configuration("prod + fast-start + AOT", target.resolve(PLAIN_JAR),
+                    List.of("-Dspring.aot.enabled=true"), fastStart));
+            configurations.add(new Configuration("prod + fast-start + AOT + CDS", target.resolve(PLAIN_JAR),
+                    List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=error", "-Dspring.aot.enabled=true"),
+                    fastStart));
+        } else {
+            log.info("No {} in {}: build the backend with -Pfast-start to include AOT and CDS", CDS_ARCHIVE, target);
+        }
+
+        Path logFile = reportDir.resolve("backend.log");
+        long maxId = prepareDatabase(execJar, prod, dataDir, rows, seed, tenants, logFile);
+
+        List<ConfigurationResult> results = new ArrayList<>();
+        for (Configuration configuration : configurations) {
+            results.add(measure(configuration, runs, maxId, tenants, logFile));
+        }
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("startup.json").toFile(), results);
+        printSummary(results, reportDir);
+    }
+
+    /** Lets Flyway create the schema in a fresh file database, then bulk-loads it */
+    private static long prepareDatabase(Path jar, List<String> prod, Path dataDir, int rows, long seed,
+            TenantDistribution tenants, Path logFile) throws Exception {
+
+        FileSystemUtils.deleteRecursively(dataDir);
+        try (BackendProcess backend = BackendProcess.launch(jar, List.of(),
+                concat(prod, "--followjobs.warmup.enabled=false"), logFile)) {
+            backend.awaitSuccess(READINESS_PATH);
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:file:" + dataDir.resolve("followjobs"), "sa", "");
+        return new DatasetSeeder(dataSource).seed(rows, seed, tenants);
+    }
+
+    private static ConfigurationResult measure(Configuration configuration, int runs, long maxId,
+            TenantDistribution tenants, Path logFile) throws Exception {
+
+        List<String> labels = new ArrayList<>();
+        double[] ready = new double[runs];
+        double[] firstSuccess = new double[runs];
+        double[][] first = null;
+        double[][] repeat = null;
+
+        for (int run = 0; run < runs; run++) {
+            log.info("{}: run {} of {}", configuration.name(), run + 1, runs);
+            try (BackendProcess backend = BackendProcess.launch(configuration.jar(), configuration.jvmArgs(),
+                    configuration.appArgs(), logFile)) {
+
+                ready[run] = backend.awaitSuccess(READINESS_PATH);
+
+                List<HttpRequest> requests = probes(backend.getBaseUrl(), maxId, tenants);
+                if (first == null) {
+                    requests.forEach(request -> labels.add(label(request)));
+                    first = new double[requests.size()][runs];
+                    repeat = new double[requests.size()][runs];
+                }
+                for (int i = 0; i < requests.size(); i++) {
+                    first[i][run] = backend.time(requests.get(i));
+                    if (i == 0) {
+                        firstSuccess[run] = backend.elapsedMillis();
+                    }
+                    repeat[i][run] = backend.time(requests.get(i));
+                }
+            }
+        }
+
+        List<ProbeResult> probeResults = new ArrayList<>();
+        for (int i = 0; i < labels.size(); i++) {
+            probeResults.add(new ProbeResult(labels.get(i), median(first[i]), median(repeat[i])));
+        }
+        return new ConfigurationResult(configuration.name(), runs, median(ready), median(firstSuccess), probeResults);
+    }
+
+    /** Representative requests of one tenant: index lookups, a tenant-wide scan and a write */
+    private static List<HttpRequest> probes(String baseUrl, long maxId, TenantDistribution tenants) {
+        String api = baseUrl + "/api/applications";
+        String company = URLEncoder.encode(DatasetProfile.company(7), StandardCharsets.UTF_8);
+        long id = Math.max(1, maxId / 2);
+        String tenant = tenants.tenantOf(id);
+
+        return List.of(
+                HttpRequest.newBuilder(URI.create(api + "/" + id)).header(Endpoint.TENANT_HEADER, tenant).GET().build(),
+                HttpRequest.newBuilder(URI.create(api + "/status/ACCEPTED")).header(Endpoint.TENANT_HEADER, tenant).GET().build(),
+                HttpRequest.newBuilder(URI.create(api + "/search?company=" + company)).header(Endpoint.TENANT_HEADER, tenant).GET().build(),
+                HttpRequest.newBuilder(URI.create(api))
+                        .header(Endpoint.TENANT_HEADER, tenant)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"company":"Startup Bench","position":"Engineer","portal":"LinkedIn","status":"SENT"}"""))
+                        .build());
+    }
+
+    private static String label(HttpRequest request) {
+        return request.method() + " " + request.uri().getRawPath()
+                + (request.uri().getRawQuery() != null ? "?" + request.uri().getRawQuery() : "");
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double median = sorted.length % 2 == 1
+                ? sorted[sorted.length / 2]
+                : (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2;
+        return Math.round(median * 10) / 10.0;
+    }
+
+    private static List<String> concat(List<String> list, String... more) {
+        List<String> result = new ArrayList<>(list);
+        result.addAll(List.of(more));
+        return result;
+    }
+
+    private static void printSummary(List<ConfigurationResult> results, Path reportDir) {
+        for (ConfigurationResult result : results) {
+            log.info("{} (median of {} runs): ready after {} ms, first successful request after {} ms",
+                    result.name(), result.runs(), result.readyMs(), result.firstSuccessMs());
+            for (ProbeResult probe : result.probes()) {
+                log.info(String.format("    %-60s first %8.1f ms   repeat %8.1f ms",
+                        probe.request(), probe.firstMs(), probe.repeatMs()));
+            }
+        }
+        log.info("Report written to {}", reportDir.resolve("startup.json").toAbsolutePath());
+    }
+}
@@ -0,0 +1,47 @@
+package com.followjobs.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Assigns applications to tenants by ID, so the seeder and the request
+ * generator agree on the owner of every seeded row without sharing state.
+ * Tenant sizes follow a Zipf law: a few heavy users and a long tail of small ones.
+ */
+public final class TenantDistribution {
+
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private final int tenants;
+    private final double[] cumulative;
+
+    public TenantDistribution(int tenants) {
+        if (tenants < 1) {
+            throw new IllegalArgumentException("At least one tenant is required");
+        }
+        this.tenants = tenants;
+        this.cumulative = DatasetProfile.zipfCumulative(tenants, ZIPF_EXPONENT);
+    }
+
+    public int count() {
+        return tenants;
+    }
+
+    /** Tenant owning the application with the given ID */
+    public String tenantOf(long id) {
+        int index = Arrays.binarySearch(cumulative, unit(id));
+        return tenant(Math.min(index >= 0 ? index : -index - 1, tenants - 1));
+    }
+
+    static String tenant(int index) {
+        return "tenant-" + index;
+    }
+
+    /** Maps an ID to a well-mixed value in [0, 1) (SplitMix64 finalizer) */
+    private static double unit(long id) {
+        long z = id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}